@@ -0,0 +1,44 @@
+package org.robotframework.remoteserver.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.robotframework.remoteserver.RemoteServerImpl;
+import org.robotframework.remoteserver.library.AbstractClassLibrary;
+import org.robotframework.test.ArgumentsLibrary;
+
+/**
+ * Benchmarks of {@link AbstractClassLibrary#runKeyword(String, Object[], Map)}
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class ClassLibraryBenchmark {
+
+    private final Object[] arguments = {1, 2}, noArguments = {};
+    private final Map<String, Object> kwargs = new HashMap<>(), noKwargs = new HashMap<>();
+    private AbstractClassLibrary library;
+
+    @Setup public void setUp() {
+        library = new ArgumentsLibrary(new RemoteServerImpl());
+        kwargs.put("element_1", 1);
+        kwargs.put("element_2", 2);
+    }
+
+    @Benchmark public Object runKeyword() {
+        return library.runKeyword("add", arguments, noKwargs);
+    }
+
+    @Benchmark public Object runKeywordKwargs() {
+        return library.runKeyword("add", noArguments, kwargs);
+    }
+}
@@ -0,0 +1,44 @@
+package org.robotframework.remoteserver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.robotframework.remoteserver.RemoteServerImpl;
+import org.robotframework.remoteserver.keywords.OverloadedKeyword;
+import org.robotframework.remoteserver.keywords.OverloadedKeywordExtractor;
+import org.robotframework.remoteserver.keywords.OverloadedKeywordFactory;
+import org.robotframework.test.BaseLibrary;
+import org.robotframework.test.ConflictLibrary;
+
+/**
+ * Benchmarks of {@link OverloadedKeywordFactory#createKeyword(String)} lookups
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class KeywordFactoryBenchmark {
+
+    private OverloadedKeywordFactory baseFactory, conflictFactory;
+
+    @Setup public void setUp() {
+        final RemoteServerImpl server = new RemoteServerImpl();
+        baseFactory = new OverloadedKeywordFactory(new BaseLibrary(server), OverloadedKeywordExtractor.createInstance());
+        conflictFactory = new OverloadedKeywordFactory(new ConflictLibrary(server),
+                OverloadedKeywordExtractor.createInstance());
+    }
+
+    @Benchmark public OverloadedKeyword createKeyword() {
+        return baseFactory.createKeyword("concat");
+    }
+
+    @Benchmark public OverloadedKeyword createKeywordNormalized() {
+        return conflictFactory.createKeyword("Original Keyword");
+    }
+}
@@ -0,0 +1,59 @@
+package org.robotframework.remoteserver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.robotframework.remoteserver.RemoteServerImpl;
+import org.robotframework.remoteserver.keywords.OverloadedKeyword;
+import org.robotframework.remoteserver.keywords.OverloadedKeywordExtractor;
+import org.robotframework.remoteserver.keywords.OverloadedKeywordFactory;
+import org.robotframework.remoteserver.keywords.OverloadedKeywordImpl;
+import org.robotframework.test.BaseLibrary;
+import org.robotframework.test.ConflictLibrary;
+
+/**
+ * Benchmarks of overload resolution and invocation in {@link OverloadedKeywordImpl#execute(Object[])}
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class OverloadedKeywordBenchmark {
+
+    private final Object[] intArguments = {1, 2}, stringArguments = {"1", "2"}, mixedArguments = {"text", 5},
+            conflictArguments = {"text", 1, true};
+    private OverloadedKeyword add, concat, conflict;
+
+    @Setup public void setUp() {
+        final RemoteServerImpl server = new RemoteServerImpl();
+        final OverloadedKeywordFactory baseFactory = new OverloadedKeywordFactory(new BaseLibrary(server),
+                OverloadedKeywordExtractor.createInstance());
+        final OverloadedKeywordFactory conflictFactory = new OverloadedKeywordFactory(new ConflictLibrary(server),
+                OverloadedKeywordExtractor.createInstance());
+        add = baseFactory.createKeyword("add");
+        concat = baseFactory.createKeyword("concat");
+        conflict = conflictFactory.createKeyword("conflictOverloadedMethod");
+    }
+
+    @Benchmark public Object executeTyped() {
+        return add.execute(intArguments);
+    }
+
+    @Benchmark public Object executeConverted() {
+        return add.execute(stringArguments);
+    }
+
+    @Benchmark public Object executeOverload() {
+        return concat.execute(mixedArguments);
+    }
+
+    @Benchmark public Object executeConflict() {
+        return conflict.execute(conflictArguments);
+    }
+}
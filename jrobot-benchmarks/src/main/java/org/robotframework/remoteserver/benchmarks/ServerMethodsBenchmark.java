@@ -0,0 +1,61 @@
+package org.robotframework.remoteserver.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.robotframework.remoteserver.RemoteServerImpl;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+import org.robotframework.remoteserver.servlet.RemoteServerServlet;
+import org.robotframework.remoteserver.servlet.ServerMethods;
+import org.robotframework.test.ArgumentsLibrary;
+
+/**
+ * Benchmarks of {@link ServerMethods#run_keyword(String, Object[], Map)} including output capturing
+ * and result assembly
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class ServerMethodsBenchmark {
+
+    private final Object[] arguments = {1, 2}, namedArguments = {"element_1=1", "element_2=2"}, noArguments = {};
+    private final Map<String, Object> kwargs = new HashMap<>(), noKwargs = new HashMap<>();
+    private ServerMethods serverMethods;
+
+    @Setup public void setUp() {
+        final RemoteLibrary library = new ArgumentsLibrary(new RemoteServerImpl());
+        serverMethods = new ServerMethods(new RemoteServerServlet() {
+
+            @Override public RemoteLibrary getLibrary() {
+                return library;
+            }
+        });
+        kwargs.put("element_1", 1);
+        kwargs.put("element_2", 2);
+    }
+
+    @Benchmark public Map<String, Object> runKeyword() {
+        return serverMethods.run_keyword("add", arguments, noKwargs);
+    }
+
+    @Benchmark public Map<String, Object> runKeywordKwargs() {
+        return serverMethods.run_keyword("add", noArguments, kwargs);
+    }
+
+    @Benchmark public Map<String, Object> runKeywordNamedArguments() {
+        return serverMethods.run_keyword("add", namedArguments.clone());
+    }
+
+    @Benchmark public Map<String, Object> runKeywordFailure() {
+        return serverMethods.run_keyword("add", noArguments, noKwargs);
+    }
+}
@@ -3,6 +3,7 @@ package org.robotframework.remoteserver;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.util.Map;
 import org.robotframework.remoteserver.library.RemoteLibrary;
+import org.robotframework.remoteserver.xmlrpc.serializers.SerializerSource;
 
 /**
  * Provides way of providing and managing {@link RemoteLibrary} that are used as Robot-framework remote libraries
@@ -56,6 +57,7 @@ public interface RemoteServer {
      * <li>contain only alphanumeric characters or any of these: / - . _ ~</li>
      * <li>not end in a /</li>
      * <li>not contain a repeating sequence of /s</li>
+     * <li>not be /metrics, which serves metrics of executed keywords</li>
      * </ul>
      * Example: <code>putLibrary("/myLib", new MyLibrary());</code>
      *
@@ -70,4 +72,19 @@ public interface RemoteServer {
      */
     <T> void addSerializer(StdSerializer<T> serializer);
 
+    /**
+     * @param source Source of serializers that will be responsible for serialization
+     */
+    default void addSerializers(SerializerSource source) {
+        source.getSerializers().forEach(this::addSerializer);
+    }
+
+    /**
+     * @param source Source of serializers registered by {@link #addSerializers(SerializerSource)}
+     * @throws UnsupportedOperationException If server does not support removal of serializers
+     */
+    default void removeSerializers(SerializerSource source) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support removal of serializers");
+    }
+
 }
@@ -17,6 +17,7 @@ package org.robotframework.remoteserver;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
@@ -28,6 +29,7 @@ import org.robotframework.remoteserver.library.RemoteLibrary;
 import org.robotframework.remoteserver.servlet.RemoteServerContext;
 import org.robotframework.remoteserver.servlet.RemoteServerServlet;
 import org.robotframework.remoteserver.xmlrpc.TypeFactory;
+import org.robotframework.remoteserver.xmlrpc.serializers.SerializerSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +49,7 @@ import org.slf4j.LoggerFactory;
 public class RemoteServerImpl implements RemoteServer {
 
     protected static final Logger LOG = LoggerFactory.getLogger(RemoteServerImpl.class.getName());
-    protected final Server server = new Server();
+    protected final Server server;
     private final RemoteServerContext servlet = new RemoteServerServlet();
     private final ServerConnector connector;
 
@@ -56,6 +58,20 @@ public class RemoteServerImpl implements RemoteServer {
      * providing Robot-framework remote library manager
      */
     public RemoteServerImpl() {
+        this(false);
+    }
+
+    /**
+     * Constructor instantiating {@link RemoteServer} providing Robot-framework remote library manager
+     *
+     * @param virtualThreads If requests and keywords should be executed on virtual threads instead of bounded
+     *                       thread pool. Requires JDK 21 or newer, default thread pool is used otherwise.
+     */
+    public RemoteServerImpl(boolean virtualThreads) {
+        if (virtualThreads && !VirtualThreadPool.isSupported()) {
+            LOG.warn("Virtual threads are not supported by current JDK, using default thread pool");
+        }
+        server = virtualThreads && VirtualThreadPool.isSupported() ? new Server(new VirtualThreadPool()) : new Server();
         HttpConfiguration httpConfiguration = new HttpConfiguration();
         httpConfiguration.setSendServerVersion(false);
         httpConfiguration.setSendXPoweredBy(false);
@@ -107,6 +123,68 @@ public class RemoteServerImpl implements RemoteServer {
         connector.setHost(hostName);
     }
 
+    /**
+     * Sets {@link Executor} used for concurrent execution of calls batched by {@code system.multicall}.
+     *
+     * @param executor Instance of {@link Executor}, or null if batched calls are executed sequentially,
+     *                 which is default.
+     */
+    public void setMulticallExecutor(Executor executor) {
+        ((RemoteServerServlet) servlet).setMulticallExecutor(executor);
+    }
+
+    /**
+     * Enables Apache XML-RPC extensions, so null values and numbers exceeding i4 are serialized as {@code ex:nil},
+     * {@code ex:i8}, {@code ex:biginteger} and {@code ex:bigdecimal}. Clients need to understand the extensions.
+     *
+     * @param enabled If extensions are enabled, disabled by default
+     */
+    public void setExtensionsEnabled(boolean enabled) {
+        ((RemoteServerServlet) servlet).setExtensionsEnabled(enabled);
+    }
+
+    /**
+     * Sets format of {@code run_keyword} results. Compact results contain untyped strings and no whitespace,
+     * otherwise strings are typed and elements are separated by line breaks.
+     *
+     * @param compact If results are compact, which is default
+     */
+    public void setCompactResponses(boolean compact) {
+        ((RemoteServerServlet) servlet).setCompactResponses(compact);
+    }
+
+    /**
+     * Sets if arguments of {@code run_keyword} are decoded directly into argument types of keyword with single
+     * implementation, instead of being converted by keyword.
+     *
+     * @param typed If arguments are decoded into argument types, which is default
+     */
+    public void setTypedArguments(boolean typed) {
+        ((RemoteServerServlet) servlet).setTypedArguments(typed);
+    }
+
+    /**
+     * Sets minimal number of elements of returned arrays and collections, that are serialized in parallel chunks.
+     * Elements need to be safe to serialize from other threads.
+     *
+     * @param threshold Minimal number of elements, or 0 if elements are always serialized sequentially,
+     *                  which is default
+     */
+    public void setParallelSerializationThreshold(int threshold) {
+        ((RemoteServerServlet) servlet).setParallelSerializationThreshold(threshold);
+    }
+
+    /**
+     * Sets minimal size of responses, that are compressed by gzip if client accepts it. Gzip encoded requests are
+     * always accepted.
+     *
+     * @param threshold Minimal size of response in bytes, 8 KiB by default, or negative number if responses are
+     *                  never compressed
+     */
+    public void setGzipThreshold(int threshold) {
+        ((RemoteServerServlet) servlet).setGzipThreshold(threshold);
+    }
+
     @Override public void putLibrary(String path, RemoteLibrary library) {
         final RemoteLibrary
                 oldLibrary =
@@ -151,6 +229,22 @@ public class RemoteServerImpl implements RemoteServer {
     }
 
     @Override public <T> void addSerializer(StdSerializer<T> serializer) {
-        ((TypeFactory) servlet.getXmlRpcServletServer().getTypeFactory()).addSerializer(serializer);
+        getTypeFactory().addSerializer(serializer);
+    }
+
+    @Override public void addSerializers(SerializerSource source) {
+        if (source != null) {
+            getTypeFactory().addSerializers(source);
+        }
+    }
+
+    @Override public void removeSerializers(SerializerSource source) {
+        if (source != null) {
+            getTypeFactory().removeSerializers(source);
+        }
+    }
+
+    private TypeFactory getTypeFactory() {
+        return (TypeFactory) servlet.getXmlRpcServletServer().getTypeFactory();
     }
 }
@@ -0,0 +1,93 @@
+package org.robotframework.remoteserver;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * Implementation of {@link ThreadPool} that executes every task on new virtual thread. Virtual threads
+ * are available since JDK 21 and they are looked up reflectively, so availability needs to be checked
+ * by {@link #isSupported()}.
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+    private static final Method FACTORY = findFactory();
+    private final AtomicInteger threads = new AtomicInteger();
+    private volatile ExecutorService executor;
+
+    /**
+     * @return Method creating executor of virtual threads, or null if current JDK does not support them
+     */
+    private static Method findFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return If current JDK supports virtual threads
+     */
+    public static boolean isSupported() {
+        return FACTORY != null;
+    }
+
+    @Override protected void doStart() throws Exception {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by current JDK");
+        }
+        executor = (ExecutorService) FACTORY.invoke(null);
+        super.doStart();
+    }
+
+    @Override protected void doStop() throws Exception {
+        final ExecutorService current = executor;
+        if (current != null) {
+            current.shutdown();
+            if (!current.awaitTermination(getStopTimeout(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        }
+        super.doStop();
+    }
+
+    @Override public void execute(Runnable task) {
+        final ExecutorService current = executor;
+        if (current == null || !isRunning()) {
+            throw new RejectedExecutionException(task.toString());
+        }
+        current.execute(() -> {
+            threads.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                threads.decrementAndGet();
+            }
+        });
+    }
+
+    @Override public void join() throws InterruptedException {
+        final ExecutorService current = executor;
+        if (current != null) {
+            current.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override public int getThreads() {
+        return threads.get();
+    }
+
+    @Override public int getIdleThreads() {
+        return 0;
+    }
+
+    @Override public boolean isLowOnThreads() {
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package org.robotframework.remoteserver.anotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation represents concurrency policy under which Robot-framework Keyword is executed,
+ * Keywords without this annotation are executed {@link Policy#SERIAL}
+ */
+@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.METHOD) public @interface KeywordConcurrency {
+
+    /**
+     * @return Policy used for execution of Keyword
+     */
+    Policy value() default Policy.SERIAL;
+
+    /**
+     * @return Index of Keyword argument used for lock selection when {@link Policy#STRIPED} is used, it needs to be
+     * index of existing argument of every overload of Keyword
+     */
+    int stripe() default 0;
+
+    /**
+     * Policies available for execution of Keyword
+     */
+    enum Policy {
+        /**
+         * Keyword is thread-safe and is executed without any lock
+         */
+        PARALLEL,
+        /**
+         * Keyword is executed exclusively with any other serial Keyword of the same library
+         */
+        SERIAL,
+        /**
+         * Keyword is executed exclusively with other striped Keywords of the same library
+         * that were called with equal value of {@link #stripe()} argument
+         */
+        STRIPED
+    }
+}
@@ -0,0 +1,139 @@
+package org.robotframework.remoteserver.io;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of direct {@link ByteBuffer} segments of equal size. Number of allocated direct segments is capped and all
+ * of them fit the pool once released, so direct memory is bounded and never left to garbage collector. When all
+ * direct segments are acquired, heap segments are allocated instead and left to garbage collector once released.
+ * Acquisitions served from pool are counted as hits, others as misses, of which heap allocations are counted
+ * separately. Counters are exposed in Prometheus text format by {@link #writeTo(StringBuilder)}.
+ */
+public class BufferPool {
+
+    private static final String NAME = "jrobot_response_buffer_pool";
+
+    private final int segmentSize;
+    private final Queue<ByteBuffer> segments;
+    private final int maxDirect;
+    private final AtomicInteger direct = new AtomicInteger();
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), heap = new LongAdder();
+
+    /**
+     * @param segmentSize Size of single segment in bytes
+     * @param maxDirect   Maximal number of direct segments allocated by pool
+     */
+    public BufferPool(int segmentSize, int maxDirect) {
+        if (segmentSize <= 0 || maxDirect <= 0) {
+            throw new IllegalArgumentException("Size of segment and pool needs to be positive");
+        }
+        this.segmentSize = segmentSize;
+        this.maxDirect = maxDirect;
+        this.segments = new ArrayBlockingQueue<>(maxDirect);
+    }
+
+    /**
+     * @return Cleared segment, either pooled or newly allocated, which is heap segment once all direct segments
+     * are acquired
+     */
+    public ByteBuffer acquire() {
+        final ByteBuffer segment = segments.poll();
+        if (segment != null) {
+            hits.increment();
+            segment.clear();
+            return segment;
+        }
+        misses.increment();
+        if (direct.incrementAndGet() <= maxDirect) {
+            return ByteBuffer.allocateDirect(segmentSize);
+        }
+        direct.decrementAndGet();
+        heap.increment();
+        return ByteBuffer.allocate(segmentSize);
+    }
+
+    /**
+     * Returns direct segment to pool, heap segments are left to garbage collector. Segment must not be used after
+     * it is released.
+     *
+     * @param segment Segment acquired from this pool
+     */
+    public void release(ByteBuffer segment) {
+        if (segment.isDirect() && segment.capacity() == segmentSize && !segments.offer(segment)) {
+            // Pool is full only if it received segments it did not allocate, so this one is left to collector
+            direct.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return Size of single segment in bytes
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * @return Number of acquisitions served from pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of acquisitions that allocated new segment
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of acquisitions that allocated heap segment, as all direct segments were acquired
+     */
+    public long getHeapAllocations() {
+        return heap.sum();
+    }
+
+    /**
+     * @return Number of segments currently retained by pool
+     */
+    public int getPooled() {
+        return segments.size();
+    }
+
+    /**
+     * @return Number of direct segments currently acquired and not released
+     */
+    public int getOutstanding() {
+        return Math.max(0, direct.get() - segments.size());
+    }
+
+    /**
+     * Writes counters of pool in Prometheus text format
+     *
+     * @param out Builder that receives metrics
+     * @return Provided builder
+     */
+    public StringBuilder writeTo(StringBuilder out) {
+        out.append("# HELP ").append(NAME).append("_hits_total Acquisitions of response buffers served from pool.\n");
+        out.append("# TYPE ").append(NAME).append("_hits_total counter\n");
+        out.append(NAME).append("_hits_total ").append(getHits()).append('\n');
+        out.append("# HELP ").append(NAME).append("_misses_total Acquisitions of newly allocated response buffers.\n");
+        out.append("# TYPE ").append(NAME).append("_misses_total counter\n");
+        out.append(NAME).append("_misses_total ").append(getMisses()).append('\n');
+        out.append("# HELP ").append(NAME).append("_pooled Response buffers retained by pool.\n");
+        out.append("# TYPE ").append(NAME).append("_pooled gauge\n");
+        out.append(NAME).append("_pooled ").append(getPooled()).append('\n');
+        out.append("# HELP ").append(NAME).append("_outstanding Direct response buffers acquired and not released.\n");
+        out.append("# TYPE ").append(NAME).append("_outstanding gauge\n");
+        out.append(NAME).append("_outstanding ").append(getOutstanding()).append('\n');
+        out.append("# HELP ").append(NAME).append("_heap_total Acquisitions of heap response buffers, as all direct"
+                + " buffers were acquired.\n");
+        out.append("# TYPE ").append(NAME).append("_heap_total counter\n");
+        out.append(NAME).append("_heap_total ").append(getHeapAllocations()).append('\n');
+        return out;
+    }
+}
@@ -0,0 +1,102 @@
+package org.robotframework.remoteserver.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stream compressing content by gzip, once its size reaches the threshold. Content is held in memory until size
+ * is known to reach the threshold, or until stream is closed, so smaller content is written to the target
+ * unchanged. Provided callback is invoked just before first compressed byte is written, so it can still set
+ * headers of the response.
+ */
+public class CompressingOutputStream extends OutputStream {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final OutputStream target;
+    private final int threshold;
+    private final Runnable onCompress;
+    private byte[] buffer;
+    private int size;
+    private OutputStream compressed;
+    private boolean closed;
+
+    /**
+     * @param target     Stream receiving content
+     * @param threshold  Minimal size of content in bytes, that is compressed
+     * @param onCompress Callback invoked when content is going to be compressed
+     */
+    public CompressingOutputStream(OutputStream target, int threshold, Runnable onCompress) {
+        this.target = target;
+        this.threshold = threshold;
+        this.onCompress = onCompress;
+        this.buffer = new byte[Math.min(threshold, GZIP_BUFFER_SIZE)];
+    }
+
+    @Override public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (compressed == null && size + len < threshold) {
+            if (size + len > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(threshold, Math.max(buffer.length * 2, size + len)));
+            }
+            System.arraycopy(b, off, buffer, size, len);
+            size += len;
+            return;
+        }
+        if (compressed == null) {
+            onCompress.run();
+            compressed = new GZIPOutputStream(target, GZIP_BUFFER_SIZE);
+            compressed.write(buffer, 0, size);
+            buffer = null;
+        }
+        compressed.write(b, off, len);
+    }
+
+    /**
+     * @return If content is compressed
+     */
+    public boolean isCompressed() {
+        return compressed != null;
+    }
+
+    /**
+     * Flushes compressed content, while content smaller than threshold stays held until stream is closed
+     *
+     * @throws IOException If writing to the target failed
+     */
+    @Override public void flush() throws IOException {
+        if (compressed != null) {
+            compressed.flush();
+        }
+    }
+
+    /**
+     * Finishes compression, or writes held content unchanged, and closes the target
+     *
+     * @throws IOException If writing to the target failed
+     */
+    @Override public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (compressed != null) {
+            compressed.close();
+        } else {
+            try {
+                target.write(buffer, 0, size);
+            } finally {
+                buffer = null;
+                target.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.robotframework.remoteserver.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+/**
+ * Captures standard output and error written by the thread that started the capture and by threads
+ * it creates. Standard streams are replaced only once by demultiplexing streams, so concurrent captures
+ * do not steal output of each other. Tasks submitted to already existing threads can be bound
+ * to the capture with {@link #wrap(Runnable)} or {@link #wrap(Callable)}. Threads reference inherited capture only
+ * weakly and drop it once it is closed, so long-lived threads created during capture, like pool threads, neither
+ * keep its buffers reachable nor write to it after it was closed.
+ */
+public class OutputCapture implements AutoCloseable {
+
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+    private static final InheritableThreadLocal<WeakReference<OutputCapture>> current = new InheritableThreadLocal<>();
+    private static volatile RoutingPrintStream stdOut, stdErr;
+
+    private final ByteArrayOutputStream outBuffer = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errBuffer = new ByteArrayOutputStream();
+    private final PrintStream out, err;
+    private final OutputCapture previous;
+    private final WeakReference<OutputCapture> reference = new WeakReference<>(this);
+    private volatile boolean closed;
+
+    private OutputCapture(OutputCapture previous) {
+        this.previous = previous;
+        try {
+            this.out = new PrintStream(outBuffer, true, ENCODING);
+            this.err = new PrintStream(errBuffer, true, ENCODING);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Starts capturing of standard streams for the calling thread, until {@link #close()} is called.
+     *
+     * @return Active capture bound to the calling thread
+     */
+    public static OutputCapture start() {
+        install();
+        final OutputCapture capture = new OutputCapture(current());
+        current.set(capture.reference);
+        return capture;
+    }
+
+    /**
+     * @return Capture active on the calling thread, or null if there is none
+     */
+    static OutputCapture current() {
+        final WeakReference<OutputCapture> reference = current.get();
+        if (reference == null) {
+            return null;
+        }
+        OutputCapture capture = reference.get();
+        while (capture != null && capture.closed) {
+            capture = capture.previous;
+        }
+        if (capture == null) {
+            current.remove();
+        } else if (capture.reference != reference) {
+            current.set(capture.reference);
+        }
+        return capture;
+    }
+
+    /**
+     * Installs demultiplexing standard streams if they are not already installed.
+     */
+    private static void install() {
+        if (System.out != stdOut || System.err != stdErr) {
+            synchronized (OutputCapture.class) {
+                if (System.out != stdOut) {
+                    stdOut = new RoutingPrintStream(System.out, capture -> capture.out);
+                    System.setOut(stdOut);
+                }
+                if (System.err != stdErr) {
+                    stdErr = new RoutingPrintStream(System.err, capture -> capture.err);
+                    System.setErr(stdErr);
+                }
+            }
+        }
+    }
+
+    /**
+     * Binds provided task to the capture active on the calling thread
+     *
+     * @param task Task that will be executed on other thread
+     * @return Task writing its output to the current capture
+     */
+    public static Runnable wrap(Runnable task) {
+        final OutputCapture capture = current();
+        if (capture == null) {
+            return task;
+        }
+        return () -> {
+            final WeakReference<OutputCapture> other = current.get();
+            current.set(capture.reference);
+            try {
+                task.run();
+            } finally {
+                if (other == null) {
+                    current.remove();
+                } else {
+                    current.set(other);
+                }
+            }
+        };
+    }
+
+    /**
+     * Binds provided task to the capture active on the calling thread
+     *
+     * @param task Task that will be executed on other thread
+     * @param <T>  Type of task result
+     * @return Task writing its output to the current capture
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        final OutputCapture capture = current();
+        if (capture == null) {
+            return task;
+        }
+        return () -> {
+            final WeakReference<OutputCapture> other = current.get();
+            current.set(capture.reference);
+            try {
+                return task.call();
+            } finally {
+                if (other == null) {
+                    current.remove();
+                } else {
+                    current.set(other);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return Captured standard output
+     */
+    public String getStdOut() {
+        return toString(outBuffer);
+    }
+
+    /**
+     * @return Captured standard error
+     */
+    public String getStdErr() {
+        return toString(errBuffer);
+    }
+
+    private String toString(ByteArrayOutputStream buffer) {
+        try {
+            return buffer.toString(ENCODING);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stops the capture and restores capture that was active on calling thread before.
+     */
+    @Override public void close() {
+        closed = true;
+        if (current.get() == reference) {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous.reference);
+            }
+        }
+    }
+}
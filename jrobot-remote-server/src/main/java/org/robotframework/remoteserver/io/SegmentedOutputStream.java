@@ -0,0 +1,144 @@
+package org.robotframework.remoteserver.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jetty.server.HttpOutput;
+
+/**
+ * Stream collecting written data in segments acquired from {@link BufferPool}. Once number of filled segments
+ * reaches the limit, and when stream is closed, segments are written to the target at once and returned to the pool.
+ * Jetty output receives segments as they are, so their content is not copied again on heap, while other streams
+ * receive it through small transfer buffer. Target stream is never closed.
+ */
+public class SegmentedOutputStream extends OutputStream {
+
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    private final OutputStream target;
+    private final BufferPool pool;
+    private final int maxPending;
+    private final List<ByteBuffer> pending = new ArrayList<>();
+    private ByteBuffer current;
+    private byte[] transfer;
+    private boolean closed;
+    private boolean written;
+
+    /**
+     * @param target     Stream receiving segments
+     * @param pool       Pool providing segments
+     * @param maxPending Number of filled segments, that are held before they are written to the target
+     */
+    public SegmentedOutputStream(OutputStream target, BufferPool pool, int maxPending) {
+        this.target = target;
+        this.pool = pool;
+        this.maxPending = maxPending;
+    }
+
+    @Override public void write(int b) throws IOException {
+        ensureOpen();
+        segment().put((byte) b);
+    }
+
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            final ByteBuffer segment = segment();
+            final int count = Math.min(len, segment.remaining());
+            segment.put(b, off, count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Does not write anything, as segments are written only once they are filled or stream is closed
+     */
+    @Override public void flush() {
+    }
+
+    /**
+     * Writes all segments to the target and returns them to the pool
+     *
+     * @throws IOException If writing to the target failed
+     */
+    @Override public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (current != null) {
+                pending.add(current);
+                current = null;
+            }
+            writePending();
+            target.flush();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns all segments to the pool without writing them, after which stream can not be used
+     */
+    public void release() {
+        closed = true;
+        if (current != null) {
+            pool.release(current);
+            current = null;
+        }
+        pending.forEach(pool::release);
+        pending.clear();
+    }
+
+    /**
+     * @return If any segment was written to the target, so the target may have committed part of the content
+     */
+    public boolean isWritten() {
+        return written;
+    }
+
+    private ByteBuffer segment() throws IOException {
+        if (current != null && !current.hasRemaining()) {
+            pending.add(current);
+            current = null;
+            if (pending.size() >= maxPending) {
+                writePending();
+            }
+        }
+        if (current == null) {
+            current = pool.acquire();
+        }
+        return current;
+    }
+
+    private void writePending() throws IOException {
+        written |= !pending.isEmpty();
+        for (ByteBuffer segment : pending) {
+            segment.flip();
+            if (target instanceof HttpOutput) {
+                ((HttpOutput) target).write(segment);
+            } else {
+                if (transfer == null) {
+                    transfer = new byte[TRANSFER_BUFFER_SIZE];
+                }
+                while (segment.hasRemaining()) {
+                    final int count = Math.min(transfer.length, segment.remaining());
+                    segment.get(transfer, 0, count);
+                    target.write(transfer, 0, count);
+                }
+            }
+        }
+        pending.forEach(pool::release);
+        pending.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
@@ -16,6 +16,33 @@ public interface CheckedKeyword extends DocumentedKeyword, TaggedKeyword {
      */
     boolean canExecute(Object[] args);
 
+    /**
+     * Groups and converts provided arguments to argument types of {@link org.robotframework.javalib.keyword.Keyword}
+     *
+     * @param args Arguments that will be used in {@link org.robotframework.javalib.keyword.Keyword} execution
+     * @return Converted arguments, or null if {@link org.robotframework.javalib.keyword.Keyword} is not compatible
+     * with arguments
+     */
+    Object[] convertArguments(Object[] args);
+
+    /**
+     * Executes {@link org.robotframework.javalib.keyword.Keyword} with arguments returned by
+     * {@link #convertArguments(Object[])}
+     *
+     * @param convertedArgs Converted arguments
+     * @return Value returned by {@link org.robotframework.javalib.keyword.Keyword}
+     */
+    Object executeConverted(Object[] convertedArgs);
+
+    /**
+     * Checks if compatibility of {@link org.robotframework.javalib.keyword.Keyword} with arguments depends only on
+     * their runtime types and not on their values
+     *
+     * @param argumentTypes Runtime {@link Class} of each argument, null for null argument
+     * @return If result of {@link #canExecute(Object[])} is same for all arguments of provided types
+     */
+    boolean isResolvedByTypes(Class<?>[] argumentTypes);
+
     /**
      * Returns argument types used in current {@link org.robotframework.javalib.keyword.Keyword}
      *
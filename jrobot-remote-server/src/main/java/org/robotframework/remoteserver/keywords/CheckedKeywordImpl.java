@@ -17,8 +17,18 @@
  */
 package org.robotframework.remoteserver.keywords;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Primitives;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 import org.robotframework.javalib.annotation.ArgumentNames;
 import org.robotframework.javalib.reflection.ArgumentConverter;
 import org.robotframework.javalib.reflection.ArgumentGrouper;
@@ -30,16 +40,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Class providing implementation of {@link CheckedKeyword}
+ * Class providing implementation of {@link CheckedKeyword}. Keyword {@link Method} is bound once
+ * into {@link MethodHandle} invoker, that spreads and unboxes arguments without reflective access checks.
  */
 public class CheckedKeywordImpl implements CheckedKeyword {
 
     protected static final Logger LOG = LoggerFactory.getLogger(CheckedKeywordImpl.class.getName());
+    private static final Set<Class<?>>
+            PARSED_TYPES =
+            ImmutableSet.of(Integer.class, Long.class, Short.class, Byte.class, Float.class, Double.class);
 
     private final IArgumentConverter argumentConverter;
     private final IArgumentGrouper argumentGrouper;
     private final Method method;
     private final Object obj;
+    private final Class<?>[] parameterTypes, boxedParameterTypes;
+    private final MethodHandle invoker;
+    private final boolean grouped;
+    private final String[] tags, argumentNames;
+    private final String documentation;
 
     /**
      * Constructor creating {@link CheckedKeyword} providing {@link Object} and {@link Method},
@@ -53,32 +72,140 @@ public class CheckedKeywordImpl implements CheckedKeyword {
         this.method = method;
         this.argumentConverter = new ArgumentConverter(method.getParameterTypes());
         this.argumentGrouper = new ArgumentGrouper(method.getParameterTypes());
+        this.parameterTypes = method.getParameterTypes();
+        this.boxedParameterTypes = Arrays.stream(parameterTypes).map(Primitives::wrap).toArray(Class[]::new);
+        this.invoker = createInvoker(obj, method);
+        this.grouped = parameterTypes.length > 0 && parameterTypes[parameterTypes.length - 1].isArray();
+        this.tags = extractTags(method);
+        this.argumentNames = extractArgumentNames(method);
+        final KeywordDocumentation documentation = method.getAnnotation(KeywordDocumentation.class);
+        this.documentation = documentation != null ? documentation.value() : "";
+    }
+
+    /**
+     * Binds {@link Method} to {@link Object} into invoker accepting arguments packed in array
+     *
+     * @param obj    {@link Object} instance used for execution of {@link Method}
+     * @param method {@link Method} providing execution routine
+     * @return Invoker of type (Object[])Object, or null if {@link Method} is not accessible
+     */
+    private static MethodHandle createInvoker(Object obj, Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(obj);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            LOG.debug("Keyword {} is not accessible, reflection will be used.", method, e);
+            return null;
+        }
     }
 
     @Override public Object execute(Object[] args) {
         try {
             Object[] groupedArguments = getArgumentGrouper().groupArguments(args);
             Object[] convertedArguments = getArgumentConverter().convertArguments(groupedArguments);
-            return method.invoke(obj, convertedArguments);
+            return invoke(convertedArguments);
         } catch (Exception e) {
             LOG.error("Error invoking {} with {}", method.getName(), args, e);
             throw new RuntimeException(e);
         }
     }
 
+    @Override public Object executeConverted(Object[] convertedArgs) {
+        try {
+            return invoke(convertedArgs);
+        } catch (Exception e) {
+            LOG.error("Error invoking {} with {}", method.getName(), convertedArgs, e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes {@link Method} with arguments already converted to its parameter types,
+     * failures are reported in the same way as by {@link Method#invoke(Object, Object...)}
+     *
+     * @param arguments Converted arguments
+     * @return Value returned by {@link Method}
+     * @throws IllegalAccessException    If {@link Method} is not accessible
+     * @throws InvocationTargetException If {@link Method} throws an exception
+     */
+    private Object invoke(Object[] arguments) throws IllegalAccessException, InvocationTargetException {
+        if (invoker == null) {
+            return method.invoke(obj, arguments);
+        }
+        if (arguments == null || arguments.length != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null ? parameterTypes[i].isPrimitive() : !boxedParameterTypes[i].isInstance(
+                    arguments[i])) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+        try {
+            return (Object) invoker.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
     @Override public boolean canExecute(Object[] args) {
+        return convertArguments(args) != null;
+    }
+
+    @Override public Object[] convertArguments(Object[] args) {
+        if (isConverted(args)) {
+            return args;
+        }
         try {
             Object[] groupedArguments = getArgumentGrouper().groupArguments(args);
             Object[] convertedArguments = getArgumentConverter().convertArguments(groupedArguments);
             for (int i = 0; i < args.length; i++) {
                 if ((convertedArguments[i] == null) && (args[i] != null)) {
-                    return false;
+                    return null;
                 }
             }
-            return true;
+            return convertedArguments;
         } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if arguments were already decoded into parameter types, in which case conversion would return
+     * equal arguments
+     *
+     * @param args Arguments that will be used in {@link org.robotframework.javalib.keyword.Keyword} execution
+     * @return If arguments are instances of parameter types and do not need grouping
+     */
+    private boolean isConverted(Object[] args) {
+        if (grouped || args.length != parameterTypes.length) {
             return false;
         }
+        for (int i = 0; i < args.length; i++) {
+            if (!boxedParameterTypes[i].isInstance(args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override public boolean isResolvedByTypes(Class<?>[] argumentTypes) {
+        if (argumentTypes.length != parameterTypes.length) {
+            return true;
+        }
+        for (int i = 0; i < argumentTypes.length; i++) {
+            final Class<?> argumentType = argumentTypes[i], parameterType = boxedParameterTypes[i];
+            // Numbers are parsed from text of argument, so success of conversion depends on its value
+            if (PARSED_TYPES.contains(parameterType) && argumentType != null && argumentType != parameterType
+                    && !argumentType.isArray()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override public Class<?>[] getArguments() {
@@ -86,11 +213,7 @@ public class CheckedKeywordImpl implements CheckedKeyword {
     }
 
     @Override public String[] getTags() {
-        KeywordTags tags = method.getAnnotation(KeywordTags.class);
-        if (Objects.nonNull(tags) && tags.value().length > 0) {
-            return tags.value();
-        }
-        return new String[0];
+        return tags;
     }
 
     /**
@@ -108,30 +231,33 @@ public class CheckedKeywordImpl implements CheckedKeyword {
     }
 
     @Override public String getDocumentation() {
-        return method.getAnnotation(KeywordDocumentation.class) != null ? method.getAnnotation(
-                KeywordDocumentation.class).value() : "";
+        return documentation;
     }
 
     @Override public String[] getArgumentNames() {
-        if (method.isAnnotationPresent(ArgumentNames.class)) {
-            return method.getAnnotation(ArgumentNames.class).value();
+        return argumentNames;
+    }
+
+    /**
+     * @param method {@link Method} whose tags are extracted
+     * @return Tags declared by {@link KeywordTags}
+     */
+    private static String[] extractTags(Method method) {
+        KeywordTags tags = method.getAnnotation(KeywordTags.class);
+        if (Objects.nonNull(tags) && tags.value().length > 0) {
+            return tags.value();
         }
-        String[] names = new String[method.getParameterCount()];
+        return new String[0];
+    }
+
+    /**
+     * @param method {@link Method} whose argument names are extracted
+     * @return Names declared by {@link ArgumentNames} or names of {@link Method} parameters
+     */
+    private static String[] extractArgumentNames(Method method) {
         if (method.isAnnotationPresent(ArgumentNames.class)) {
-            final ArgumentNames argumentNames = method.getAnnotation(ArgumentNames.class);
-            if (argumentNames.value().length != names.length) {
-                throw new IllegalStateException(
-                        String.format("%s has invalid argument count than method %s [%d != %d]", argumentNames, method,
-                                argumentNames.value().length, names.length));
-            }
-            for (int i = 0; i < method.getParameters().length; i++) {
-                names[i] = argumentNames.value()[i];
-            }
-        } else {
-            for (int i = 0; i < method.getParameters().length; i++) {
-                names[i] = method.getParameters()[i].getName();
-            }
+            return method.getAnnotation(ArgumentNames.class).value();
         }
-        return names;
+        return Arrays.stream(method.getParameters()).map(Parameter::getName).toArray(String[]::new);
     }
 }
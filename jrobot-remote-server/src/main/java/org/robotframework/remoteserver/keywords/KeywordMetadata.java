@@ -0,0 +1,108 @@
+package org.robotframework.remoteserver.keywords;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of {@link OverloadedKeyword} metadata, that is computed once and served by reference.
+ * Returned arrays are shared and must not be modified.
+ */
+public final class KeywordMetadata {
+
+    /**
+     * Keys of keyword specification as used by {@code get_library_information}
+     */
+    public static final String ARGS = "args", TYPES = "types", TAGS = "tags", DOC = "doc";
+
+    /**
+     * Names of {@code get_library_information} entries documenting library itself and its initialization
+     */
+    public static final String INTRO = "__intro__", INIT = "__init__";
+
+    // Argument types are not declared, so Robot Framework passes arguments as they are
+    private static final String[] NO_TYPES = new String[0];
+
+    private final String name;
+    private final String[] argumentNames;
+    private final String[] tags;
+    private final String documentation;
+    private final Map<String, Object> specification;
+
+    /**
+     * @param name          Name of keyword
+     * @param argumentNames Argument specifications of keyword
+     * @param tags          Tags of keyword
+     * @param documentation Documentation of keyword
+     */
+    public KeywordMetadata(String name, String[] argumentNames, String[] tags, String documentation) {
+        this.name = Objects.requireNonNull(name);
+        this.argumentNames = argumentNames == null ? new String[0] : argumentNames.clone();
+        this.tags = tags == null ? new String[0] : tags.clone();
+        this.documentation = documentation == null ? "" : documentation;
+        this.specification = ImmutableMap.of(ARGS, this.argumentNames, TYPES, NO_TYPES, TAGS, this.tags, DOC,
+                this.documentation);
+    }
+
+    /**
+     * Creates snapshot of provided keyword
+     *
+     * @param name    Name of keyword
+     * @param keyword Keyword whose metadata are captured
+     * @return Snapshot of keyword metadata
+     */
+    public static KeywordMetadata of(String name, TaggedKeyword keyword) {
+        return new KeywordMetadata(name, keyword.getArgumentNames(), keyword.getTags(), keyword.getDocumentation());
+    }
+
+    /**
+     * Adds library entries {@link #INTRO} and {@link #INIT} without documentation to keyword specifications,
+     * unless keywords of same names exist
+     *
+     * @param keywords Keyword specifications keyed by keyword name
+     * @return Immutable library information
+     */
+    public static Map<String, Map<String, Object>> libraryInformation(Map<String, Map<String, Object>> keywords) {
+        final Map<String, Map<String, Object>> information = new HashMap<>(keywords);
+        information.putIfAbsent(INTRO, new KeywordMetadata(INTRO, null, null, null).getSpecification());
+        information.putIfAbsent(INIT, new KeywordMetadata(INIT, null, null, null).getSpecification());
+        return ImmutableMap.copyOf(information);
+    }
+
+    /**
+     * @return Name of keyword
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Argument specifications of keyword
+     */
+    public String[] getArgumentNames() {
+        return argumentNames;
+    }
+
+    /**
+     * @return Tags of keyword
+     */
+    public String[] getTags() {
+        return tags;
+    }
+
+    /**
+     * @return Documentation of keyword
+     */
+    public String getDocumentation() {
+        return documentation;
+    }
+
+    /**
+     * @return Keyword specification containing {@link #ARGS}, {@link #TYPES}, {@link #TAGS} and {@link #DOC}
+     * entries
+     */
+    public Map<String, Object> getSpecification() {
+        return specification;
+    }
+}
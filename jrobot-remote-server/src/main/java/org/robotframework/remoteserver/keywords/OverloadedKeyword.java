@@ -2,6 +2,7 @@ package org.robotframework.remoteserver.keywords;
 
 import java.lang.reflect.Method;
 import org.robotframework.javalib.keyword.DocumentedKeyword;
+import org.robotframework.remoteserver.anotations.KeywordConcurrency;
 
 /**
  * Represent extension of {@link DocumentedKeyword} and {@link TaggedKeyword}
@@ -17,4 +18,20 @@ public interface OverloadedKeyword extends DocumentedKeyword, TaggedKeyword {
      *               for {@link org.robotframework.javalib.keyword.Keyword} execution
      */
     void addOverload(Method method);
+
+    /**
+     * @return Policy under which {@link org.robotframework.javalib.keyword.Keyword} is executed
+     */
+    KeywordConcurrency.Policy getConcurrencyPolicy();
+
+    /**
+     * @return Index of argument used for lock selection if {@link KeywordConcurrency.Policy#STRIPED} is used
+     */
+    int getStripeArgument();
+
+    /**
+     * @return Argument types of the only implementation of {@link org.robotframework.javalib.keyword.Keyword},
+     * or null if implementation is selected by provided arguments
+     */
+    Class<?>[] getArgumentTypes();
 }
@@ -17,6 +17,8 @@
  */
 package org.robotframework.remoteserver.keywords;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -26,13 +28,17 @@ import org.robotframework.javalib.util.KeywordNameNormalizer;
 import org.robotframework.remoteserver.library.RemoteLibrary;
 
 /**
- * Class providing implementation of {@link KeywordFactory}
+ * Class providing implementation of {@link KeywordFactory}. Names and {@link KeywordMetadata} of extracted
+ * keywords are captured once after extraction and served by reference.
  */
 public class OverloadedKeywordFactory implements KeywordFactory<OverloadedKeyword> {
 
     private final KeywordExtractor<OverloadedKeyword> extractor;
     private final Map<String, OverloadedKeyword> keywords = new HashMap<>();
     private final IKeywordNameNormalizer keywordNameNormalizer = new KeywordNameNormalizer();
+    private final Map<String, KeywordMetadata> keywordMetadata;
+    private final Map<String, Map<String, Object>> libraryInformation;
+    private final String[] keywordNames;
 
     /**
      * Constructor creating Factory used for generating {@link OverloadedKeyword}
@@ -43,6 +49,12 @@ public class OverloadedKeywordFactory implements KeywordFactory<OverloadedKeywor
     public OverloadedKeywordFactory(RemoteLibrary keywordBean, KeywordExtractor<OverloadedKeyword> extractor) {
         this.extractor = Objects.requireNonNull(extractor);
         extractKeywordsFromKeywordBean(Objects.requireNonNull(keywordBean));
+        final ImmutableMap.Builder<String, KeywordMetadata> metadata = ImmutableMap.builder();
+        keywords.forEach((name, keyword) -> metadata.put(name, KeywordMetadata.of(name, keyword)));
+        this.keywordMetadata = metadata.build();
+        this.libraryInformation = KeywordMetadata.libraryInformation(Maps.transformValues(keywordMetadata,
+                KeywordMetadata::getSpecification));
+        this.keywordNames = keywords.keySet().toArray(new String[0]);
     }
 
     @Override public OverloadedKeyword createKeyword(String keywordName) {
@@ -50,7 +62,23 @@ public class OverloadedKeywordFactory implements KeywordFactory<OverloadedKeywor
     }
 
     @Override public String[] getKeywordNames() {
-        return keywords.keySet().toArray(new String[keywords.size()]);
+        return keywordNames;
+    }
+
+    /**
+     * @param keywordName Name of keyword
+     * @return Snapshot of keyword metadata, or null if there is no such keyword
+     */
+    public KeywordMetadata getKeywordMetadata(String keywordName) {
+        return keywordMetadata.get(keywordNameNormalizer.normalize(keywordName));
+    }
+
+    /**
+     * @return Immutable specifications of all keywords keyed by keyword name, together with library entries
+     * @see KeywordMetadata#getSpecification()
+     */
+    public Map<String, Map<String, Object>> getLibraryInformation() {
+        return libraryInformation;
     }
 
     /**
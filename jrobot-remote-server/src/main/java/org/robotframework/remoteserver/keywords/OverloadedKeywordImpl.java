@@ -30,20 +30,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
+import org.robotframework.remoteserver.anotations.KeywordConcurrency;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Class providing implementation of {@link OverloadedKeyword}
+ * Class providing implementation of {@link OverloadedKeyword}. Overload chosen for runtime types
+ * of arguments is cached, if the choice does not depend on argument values.
  */
 public class OverloadedKeywordImpl implements OverloadedKeyword {
 
     protected static final Logger LOG = LoggerFactory.getLogger(OverloadedKeywordImpl.class.getName());
 
     private final Map<Integer, List<CheckedKeyword>> keywordMap = new HashMap<>();
+    private final ConcurrentMap<Signature, CheckedKeyword> dispatchCache = new ConcurrentHashMap<>();
     private final String keywordName;
     private final Object keywordClass;
+    private KeywordConcurrency concurrency;
 
     /**
      * Constructor creating {@link OverloadedKeyword} providing {@link Object} and {@link Method},
@@ -72,13 +78,28 @@ public class OverloadedKeywordImpl implements OverloadedKeyword {
 
     @Override public Object execute(Object[] arguments) {
         final int argCount = arguments.length;
-        if (keywordMap.containsKey(argCount)) {
-            for (CheckedKeyword checkedKeyword : keywordMap.get(argCount)) {
-                if (checkedKeyword.canExecute(arguments)) {
-                    LOG.debug("EXECUTED {} args{}", keywordName, checkedKeyword.getArgumentNames().length);
-                    return checkedKeyword.execute(arguments);
+        final List<CheckedKeyword> checkedKeywords = keywordMap.get(argCount);
+        if (checkedKeywords != null) {
+            final Signature signature = new Signature(arguments);
+            final CheckedKeyword cachedKeyword = dispatchCache.get(signature);
+            if (cachedKeyword != null) {
+                final Object[] convertedArguments = cachedKeyword.convertArguments(arguments);
+                if (convertedArguments != null) {
+                    return cachedKeyword.executeConverted(convertedArguments);
                 }
-                LOG.debug("EXECUTION SKIPPED {} args {}", keywordName, checkedKeyword.getArgumentNames().length);
+            }
+            boolean resolvedByTypes = true;
+            for (CheckedKeyword checkedKeyword : checkedKeywords) {
+                resolvedByTypes &= checkedKeyword.isResolvedByTypes(signature.types);
+                final Object[] convertedArguments = checkedKeyword.convertArguments(arguments);
+                if (convertedArguments != null) {
+                    if (resolvedByTypes) {
+                        dispatchCache.putIfAbsent(signature, checkedKeyword);
+                    }
+                    LOG.debug("EXECUTED {} args {}", keywordName, argCount);
+                    return checkedKeyword.executeConverted(convertedArguments);
+                }
+                LOG.debug("EXECUTION SKIPPED {} args {}", keywordName, argCount);
             }
             throw new IllegalArgumentException(
                     String.format("%s cannot be executed with args %s.", keywordName, Arrays.toString(arguments)));
@@ -94,7 +115,22 @@ public class OverloadedKeywordImpl implements OverloadedKeyword {
         final int argCount = method.getParameterTypes().length;
         if (hasVariableArgs(method)) {
             LOG.warn("Overloads with variable arguments not supported. Ignoring overload {}", method);
-        } else if (!keywordMap.containsKey(argCount)) {
+            return;
+        }
+        if (concurrency == null) {
+            concurrency = method.getAnnotation(KeywordConcurrency.class);
+        } else if (method.isAnnotationPresent(KeywordConcurrency.class)) {
+            LOG.warn("Keyword {} concurrency already declared. Ignoring declaration on overload {}", keywordName,
+                    method);
+        }
+        if (concurrency != null && concurrency.value() == KeywordConcurrency.Policy.STRIPED
+                && (concurrency.stripe() < 0 || concurrency.stripe() >= argCount)) {
+            throw new IllegalArgumentException(String.format(
+                    "Stripe argument %d of keyword %s is out of range of its %d argument(s) in %s.",
+                    concurrency.stripe(), keywordName, argCount, method));
+        }
+        dispatchCache.clear();
+        if (!keywordMap.containsKey(argCount)) {
             keywordMap.put(argCount, new ArrayList<>());
             keywordMap.get(argCount).add(new CheckedKeywordImpl(keywordClass, method));
         } else {
@@ -122,6 +158,22 @@ public class OverloadedKeywordImpl implements OverloadedKeyword {
         return rank;
     }
 
+    @Override public KeywordConcurrency.Policy getConcurrencyPolicy() {
+        return concurrency == null ? KeywordConcurrency.Policy.SERIAL : concurrency.value();
+    }
+
+    @Override public int getStripeArgument() {
+        return concurrency == null ? 0 : concurrency.stripe();
+    }
+
+    @Override public Class<?>[] getArgumentTypes() {
+        if (keywordMap.size() != 1) {
+            return null;
+        }
+        final List<CheckedKeyword> checkedKeywords = Iterables.getOnlyElement(keywordMap.values());
+        return checkedKeywords.size() == 1 ? checkedKeywords.get(0).getArguments() : null;
+    }
+
     @Override public String[] getArgumentNames() {
         final int min = Collections.min(keywordMap.keySet());
         final int max = Collections.max(keywordMap.keySet());
@@ -168,4 +220,29 @@ public class OverloadedKeywordImpl implements OverloadedKeyword {
         }
         return tags.toArray(new String[tags.size()]);
     }
+
+    /**
+     * Runtime types of arguments used as key of dispatch cache
+     */
+    private static final class Signature {
+
+        private final Class<?>[] types;
+        private final int hash;
+
+        private Signature(Object[] arguments) {
+            types = new Class<?>[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                types[i] = arguments[i] == null ? null : arguments[i].getClass();
+            }
+            hash = Arrays.hashCode(types);
+        }
+
+        @Override public boolean equals(Object o) {
+            return this == o || (o instanceof Signature && Arrays.equals(types, ((Signature) o).types));
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
 }
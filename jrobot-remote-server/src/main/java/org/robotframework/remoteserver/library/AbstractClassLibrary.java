@@ -17,25 +17,33 @@
  */
 package org.robotframework.remoteserver.library;
 
+import com.google.common.util.concurrent.Striped;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 import org.robotframework.javalib.annotation.RobotKeyword;
 import org.robotframework.javalib.annotation.RobotKeywords;
-import org.robotframework.javalib.factory.KeywordFactory;
 import org.robotframework.javalib.library.KeywordFactoryBasedLibrary;
 import org.robotframework.remoteserver.RemoteServer;
+import org.robotframework.remoteserver.anotations.KeywordConcurrency;
 import org.robotframework.remoteserver.keywords.OverloadedKeyword;
 import org.robotframework.remoteserver.keywords.OverloadedKeywordExtractor;
+import org.robotframework.remoteserver.keywords.KeywordMetadata;
 import org.robotframework.remoteserver.keywords.OverloadedKeywordFactory;
 
 /**
  * Represent extension of {@link KeywordFactoryBasedLibrary} providing
- * base on which Robot-framework libraries can be build
+ * base on which Robot-framework libraries can be build. Keywords are executed
+ * according to their {@link KeywordConcurrency} policy, while metadata of keywords
+ * is served without taking any execution lock.
  */
 @RobotKeywords public abstract class AbstractClassLibrary extends KeywordFactoryBasedLibrary<OverloadedKeyword>
         implements RemoteLibrary {
 
-    private KeywordFactory<OverloadedKeyword> keywordFactory;
+    private static final int STRIPES = 64;
+    private final Object factoryLock = new Object();
+    private final Striped<Lock> stripes = Striped.lock(STRIPES);
+    private volatile OverloadedKeywordFactory keywordFactory;
 
     /**
      * @param server Server used for registration of Robot-framework remote library
@@ -44,14 +52,39 @@ import org.robotframework.remoteserver.keywords.OverloadedKeywordFactory;
         Objects.requireNonNull(server).putLibrary("/" + getURI().trim().replace(" ", "_"), this);
     }
 
-    @Override protected synchronized KeywordFactory<OverloadedKeyword> createKeywordFactory() {
+    @Override protected OverloadedKeywordFactory createKeywordFactory() {
         if (keywordFactory == null) {
-            keywordFactory = new OverloadedKeywordFactory(this, OverloadedKeywordExtractor.createInstance());
+            synchronized (factoryLock) {
+                if (keywordFactory == null) {
+                    keywordFactory = new OverloadedKeywordFactory(this, OverloadedKeywordExtractor.createInstance());
+                }
+            }
         }
         return keywordFactory;
     }
 
-    @Override public synchronized Object runKeyword(String keywordName, Object[] args, Map<String, Object> kwargs) {
+    @Override public Object runKeyword(String keywordName, Object[] args) {
+        final OverloadedKeyword keyword = createKeywordFactory().createKeyword(keywordName);
+        switch (keyword.getConcurrencyPolicy()) {
+            case PARALLEL:
+                return keyword.execute(args);
+            case STRIPED:
+                final int stripe = keyword.getStripeArgument();
+                final Lock lock = stripes.get(String.valueOf(stripe < args.length ? args[stripe] : null));
+                lock.lock();
+                try {
+                    return keyword.execute(args);
+                } finally {
+                    lock.unlock();
+                }
+            default:
+                synchronized (this) {
+                    return keyword.execute(args);
+                }
+        }
+    }
+
+    @Override public Object runKeyword(String keywordName, Object[] args, Map<String, Object> kwargs) {
         if (Objects.nonNull(kwargs) && !kwargs.isEmpty()) {
             String[] argsNames = getKeywordArguments(keywordName);
             Object[] argsNew = new Object[argsNames.length];
@@ -67,16 +100,34 @@ import org.robotframework.remoteserver.keywords.OverloadedKeywordFactory;
         return runKeyword(keywordName, args);
     }
 
-    @Override public synchronized String[] getKeywordArguments(String keywordName) {
-        return createKeywordFactory().createKeyword(keywordName).getArgumentNames();
+    @Override public String[] getKeywordArguments(String keywordName) {
+        return getKeywordMetadata(keywordName).getArgumentNames();
     }
 
-    @Override public synchronized String[] getKeywordTags(String keywordName) {
-        return createKeywordFactory().createKeyword(keywordName).getTags();
+    @Override public Class<?>[] getKeywordArgumentTypes(String keywordName) {
+        final OverloadedKeyword keyword = createKeywordFactory().createKeyword(keywordName);
+        return keyword == null ? null : keyword.getArgumentTypes();
     }
 
-    @Override public synchronized String getKeywordDocumentation(String keywordName) {
-        return createKeywordFactory().createKeyword(keywordName).getDocumentation();
+    @Override public String[] getKeywordTags(String keywordName) {
+        return getKeywordMetadata(keywordName).getTags();
+    }
+
+    @Override public String getKeywordDocumentation(String keywordName) {
+        return getKeywordMetadata(keywordName).getDocumentation();
+    }
+
+    @Override public Map<String, Map<String, Object>> getLibraryInformation() {
+        return createKeywordFactory().getLibraryInformation();
+    }
+
+    /**
+     * @param keywordName Name of keyword
+     * @return Snapshot of keyword metadata captured when keywords were extracted
+     */
+    protected KeywordMetadata getKeywordMetadata(String keywordName) {
+        return Objects.requireNonNull(createKeywordFactory().getKeywordMetadata(keywordName),
+                () -> "No keyword " + keywordName);
     }
 
     @Override public abstract String getURI();
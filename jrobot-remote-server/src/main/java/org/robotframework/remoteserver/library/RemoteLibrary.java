@@ -14,9 +14,11 @@
  */
 package org.robotframework.remoteserver.library;
 
+import java.util.HashMap;
 import java.util.Map;
 import org.robotframework.javalib.library.KeywordDocumentationRepository;
 import org.robotframework.javalib.library.RobotJavaLibrary;
+import org.robotframework.remoteserver.keywords.KeywordMetadata;
 
 /**
  * An interface for handling libraries in {@link org.robotframework.remoteserver.RemoteServer}.
@@ -46,6 +48,17 @@ public interface RemoteLibrary extends KeywordDocumentationRepository, RobotJava
      */
     @Override String[] getKeywordArguments(String keyword);
 
+    /**
+     * Gets the types of arguments the given keyword is executed with, which allows arguments to be decoded
+     * directly into them.
+     *
+     * @param keyword name of the keyword to get argument types for
+     * @return array of argument types, or null if types are not known or depend on provided arguments
+     */
+    default Class<?>[] getKeywordArgumentTypes(String keyword) {
+        return null;
+    }
+
     /**
      * Gets the tags for the given keyword name.
      *
@@ -62,6 +75,23 @@ public interface RemoteLibrary extends KeywordDocumentationRepository, RobotJava
      */
     @Override String getKeywordDocumentation(String name);
 
+    /**
+     * Gets specifications of all keywords at once, keyed by keyword name. Each specification contains
+     * argument specifications, argument types, tags and documentation of keyword. Library itself is described
+     * by {@link KeywordMetadata#INTRO} and {@link KeywordMetadata#INIT} entries.
+     *
+     * @return map of keyword specifications
+     * @see KeywordMetadata#getSpecification()
+     */
+    default Map<String, Map<String, Object>> getLibraryInformation() {
+        final Map<String, Map<String, Object>> information = new HashMap<>();
+        for (String name : getKeywordNames()) {
+            information.put(name, new KeywordMetadata(name, getKeywordArguments(name), getKeywordTags(name),
+                    getKeywordDocumentation(name)).getSpecification());
+        }
+        return KeywordMetadata.libraryInformation(information);
+    }
+
     /**
      * Gets the name of the remote library.
      *
@@ -0,0 +1,152 @@
+package org.robotframework.remoteserver.metrics;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.robotframework.javalib.util.IKeywordNameNormalizer;
+import org.robotframework.javalib.util.KeywordNameNormalizer;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+
+/**
+ * Registry of keyword execution latencies per library path and keyword, split by execution status.
+ * Metrics are exposed in Prometheus text format by {@link #writeTo(StringBuilder)}. Keywords are labeled by
+ * names their library resolves them to, see {@link #getKeywordLabel(RemoteLibrary, String)}, so number of series
+ * is bound by number of keywords regardless of names sent by clients.
+ */
+public class KeywordMetrics {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    /**
+     * Label of keywords that library does not resolve
+     */
+    public static final String UNKNOWN_KEYWORD = "unknown";
+    private static final IKeywordNameNormalizer NORMALIZER = new KeywordNameNormalizer();
+    private static final String NAME = "jrobot_keyword_duration_seconds";
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Histograms>> paths = new ConcurrentHashMap<>();
+    // Keyword names are immutable snapshot of library, so they are resolved once per library instance
+    private final LoadingCache<RemoteLibrary, Map<String, String>> keywordNames = CacheBuilder.newBuilder()
+            .weakKeys().build(CacheLoader.from(KeywordMetrics::getKeywordNames));
+
+    /**
+     * Resolves name of keyword as sent by client to its label. Names are normalized same way as by
+     * {@link org.robotframework.remoteserver.library.AbstractClassLibrary}, so their case, spaces and underscores
+     * do not matter.
+     *
+     * @param library Library that executed keyword
+     * @param keyword Name of keyword as sent by client
+     * @return Name of keyword as returned by {@link RemoteLibrary#getKeywordNames()}, or {@value #UNKNOWN_KEYWORD}
+     * if library does not have such keyword
+     */
+    public String getKeywordLabel(RemoteLibrary library, String keyword) {
+        if (library == null || keyword == null) {
+            return UNKNOWN_KEYWORD;
+        }
+        final String name = keywordNames.getUnchecked(library).get(NORMALIZER.normalize(keyword));
+        return name == null ? UNKNOWN_KEYWORD : name;
+    }
+
+    private static Map<String, String> getKeywordNames(RemoteLibrary library) {
+        final Map<String, String> names = new HashMap<>();
+        try {
+            final String[] keywords = library.getKeywordNames();
+            for (String keyword : keywords == null ? new String[0] : keywords) {
+                if (keyword != null) {
+                    names.putIfAbsent(NORMALIZER.normalize(keyword), keyword);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Executions of library without keyword names are recorded as unknown
+        }
+        return names;
+    }
+
+    /**
+     * Records single keyword execution
+     *
+     * @param path    Path of library that executed keyword
+     * @param keyword Label of executed keyword
+     * @param passed  If execution passed
+     * @param nanos   Duration of execution in nanoseconds
+     */
+    public void record(String path, String keyword, boolean passed, long nanos) {
+        final String pathKey = String.valueOf(path), keywordKey = String.valueOf(keyword);
+        ConcurrentMap<String, Histograms> keywords = paths.get(pathKey);
+        if (keywords == null) {
+            keywords = paths.computeIfAbsent(pathKey, k -> new ConcurrentHashMap<>());
+        }
+        Histograms histograms = keywords.get(keywordKey);
+        if (histograms == null) {
+            histograms = keywords.computeIfAbsent(keywordKey, k -> new Histograms());
+        }
+        (passed ? histograms.pass : histograms.fail).record(nanos);
+    }
+
+    /**
+     * @param path    Path of library
+     * @param keyword Name of keyword
+     * @param passed  Execution status
+     * @return Histogram of executions, or null if keyword was not executed yet
+     */
+    public LatencyHistogram getHistogram(String path, String keyword, boolean passed) {
+        final Map<String, Histograms> keywords = paths.get(path);
+        final Histograms histograms = keywords == null ? null : keywords.get(keyword);
+        return histograms == null ? null : passed ? histograms.pass : histograms.fail;
+    }
+
+    /**
+     * Writes all recorded metrics in Prometheus text format
+     *
+     * @param out Builder that receives metrics
+     * @return Provided builder
+     */
+    public StringBuilder writeTo(StringBuilder out) {
+        out.append("# HELP ").append(NAME).append(" Duration of keyword execution.\n");
+        out.append("# TYPE ").append(NAME).append(" histogram\n");
+        for (Map.Entry<String, ConcurrentMap<String, Histograms>> path : new TreeMap<>(paths).entrySet()) {
+            for (Map.Entry<String, Histograms> keyword : new TreeMap<>(path.getValue()).entrySet()) {
+                write(out, path.getKey(), keyword.getKey(), "PASS", keyword.getValue().pass);
+                write(out, path.getKey(), keyword.getKey(), "FAIL", keyword.getValue().fail);
+            }
+        }
+        return out;
+    }
+
+    private static void write(StringBuilder out, String path, String keyword, String status,
+            LatencyHistogram histogram) {
+        final long[] counts = histogram.getCumulativeCounts();
+        final long count = counts[counts.length - 1];
+        if (count == 0) {
+            return;
+        }
+        final String labels = "path=\"" + escape(path) + "\",keyword=\"" + escape(keyword) + "\",status=\"" + status
+                + "\"";
+        for (int i = 0; i < counts.length; i++) {
+            out.append(NAME).append("_bucket{").append(labels).append(",le=\"")
+                    .append(i < LatencyHistogram.BOUNDS.length ? String.valueOf(LatencyHistogram.BOUNDS[i]) : "+Inf")
+                    .append("\"} ").append(counts[i]).append('\n');
+        }
+        out.append(NAME).append("_sum{").append(labels).append("} ").append(histogram.getSum() / NANOS_PER_SECOND)
+                .append('\n');
+        out.append(NAME).append("_count{").append(labels).append("} ").append(count).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Histograms of single keyword
+     */
+    private static final class Histograms {
+
+        private final LatencyHistogram pass = new LatencyHistogram(), fail = new LatencyHistogram();
+    }
+}
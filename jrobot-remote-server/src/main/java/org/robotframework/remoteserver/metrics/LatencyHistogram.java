@@ -0,0 +1,65 @@
+package org.robotframework.remoteserver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies with fixed bucket bounds. Recording only increments {@link LongAdder}s,
+ * so it can be used concurrently from many threads with overhead in nanosecond range.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Upper bounds of buckets in seconds, last bucket is unbounded
+     */
+    static final double[] BOUNDS = {0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10,
+            30, 60};
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+    private final LongAdder sum = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sum.add(nanos);
+    }
+
+    /**
+     * @return Cumulative counts of recorded latencies lower or equal to bucket bound, last element is total count
+     */
+    public long[] getCumulativeCounts() {
+        final long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            count += buckets[i].sum();
+            counts[i] = count;
+        }
+        return counts;
+    }
+
+    /**
+     * @return Sum of recorded latencies in nanoseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+}
@@ -57,4 +57,11 @@ public interface JRobotServlet {
      * @return A documentation string for the given keyword.
      */
     String get_keyword_documentation(String keyword);
+
+    /**
+     * Get specifications of all keywords at once.
+     *
+     * @return A map of keyword names to their argument specifications, tags and documentation.
+     */
+    Map<String, Map<String, Object>> get_library_information();
 }
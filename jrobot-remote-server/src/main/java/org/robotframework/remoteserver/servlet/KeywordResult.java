@@ -0,0 +1,14 @@
+package org.robotframework.remoteserver.servlet;
+
+import java.util.HashMap;
+
+/**
+ * Result struct of {@code run_keyword}, which is distinguished from other results, so it can be written by
+ * {@link KeywordResultWriter} without the generic serialization chain.
+ */
+final class KeywordResult extends HashMap<String, Object> {
+
+    static final String STATUS = "status", RETURN = "return", OUTPUT = "output", ERROR = "error",
+            TRACEBACK = "traceback", CONTINUABLE = "continuable", FATAL = "fatal";
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,184 @@
+package org.robotframework.remoteserver.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import org.robotframework.remoteserver.xmlrpc.serializers.StringSerializer;
+
+/**
+ * Writes {@link KeywordResult} as XML-RPC response directly into reusable byte buffer, without SAX events, type
+ * serializers and attribute objects. Only members of {@code run_keyword} result having strings, booleans or plain
+ * numbers, that have no custom serializers, as values are supported, other results need to be written by generic
+ * XML-RPC writer. Compact responses
+ * contain untyped strings and no whitespace, otherwise strings are typed and elements are separated by line breaks.
+ */
+final class KeywordResultWriter {
+
+    private static final String[] MEMBERS = {KeywordResult.STATUS, KeywordResult.RETURN, KeywordResult.OUTPUT,
+            KeywordResult.ERROR, KeywordResult.TRACEBACK, KeywordResult.CONTINUABLE, KeywordResult.FATAL};
+    private static final int INITIAL_CAPACITY = 512;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Writes result to the buffer, replacing its previous content
+     *
+     * @param result     Result of {@code run_keyword}
+     * @param compact    If response is written without string types and whitespace
+     * @param longs   If long numbers are written as strings, which is not the case when Apache XML-RPC extensions
+     *                are enabled or custom serializer handles them
+     * @return If result was written, or false if it contains values that are not supported
+     */
+    boolean write(Map<String, Object> result, boolean compact, boolean longs) {
+        size = 0;
+        if (!isSupported(result, longs)) {
+            return false;
+        }
+        final String separator = compact ? "" : "\n";
+        writeAscii("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").writeAscii(separator);
+        writeAscii("<methodResponse>").writeAscii(separator);
+        writeAscii("<params>").writeAscii(separator);
+        writeAscii("<param>").writeAscii(separator);
+        writeAscii("<value><struct>").writeAscii(separator);
+        for (String name : MEMBERS) {
+            final Object value = result.get(name);
+            if (value != null) {
+                writeAscii("<member>").writeAscii(separator);
+                writeAscii("<name>").writeAscii(name).writeAscii("</name>").writeAscii(separator);
+                writeValue(value, compact);
+                writeAscii(separator).writeAscii("</member>").writeAscii(separator);
+            }
+        }
+        writeAscii("</struct></value>").writeAscii(separator);
+        writeAscii("</param>").writeAscii(separator);
+        writeAscii("</params>").writeAscii(separator);
+        writeAscii("</methodResponse>");
+        return true;
+    }
+
+    /**
+     * Writes content of the buffer to the stream
+     *
+     * @param stream Stream receiving response
+     * @throws IOException If writing to the stream failed
+     */
+    void writeTo(OutputStream stream) throws IOException {
+        stream.write(buffer, 0, size);
+    }
+
+    /**
+     * @return Number of bytes written to the buffer
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Capacity of the buffer, that is retained between writes
+     */
+    int capacity() {
+        return buffer.length;
+    }
+
+    private static boolean isSupported(Map<String, Object> result, boolean longs) {
+        int members = 0;
+        for (String name : MEMBERS) {
+            final Object value = result.get(name);
+            if (value == null) {
+                continue;
+            }
+            members++;
+            if (!(value instanceof String ? !StringSerializer.hasControlCharacter((String) value) :
+                    value instanceof Boolean || value instanceof Integer || value instanceof Short
+                            || value instanceof Byte || value instanceof Double || value instanceof Float
+                            || value instanceof Long && longs)) {
+                return false;
+            }
+        }
+        return members == result.size();
+    }
+
+    private void writeValue(Object value, boolean compact) {
+        if (value instanceof String) {
+            if (compact) {
+                writeAscii("<value>").writeText((String) value).writeAscii("</value>");
+            } else {
+                writeAscii("<value><string>").writeText((String) value).writeAscii("</string></value>");
+            }
+        } else if (value instanceof Boolean) {
+            writeAscii((Boolean) value ? "<value><boolean>1</boolean></value>" : "<value><boolean>0</boolean></value>");
+        } else if (value instanceof Double || value instanceof Float) {
+            writeAscii("<value><double>").writeAscii(value.toString()).writeAscii("</double></value>");
+        } else if (value instanceof Long) {
+            writeValue(value.toString(), compact);
+        } else {
+            writeAscii("<value><i4>").writeAscii(value.toString()).writeAscii("</i4></value>");
+        }
+    }
+
+    private KeywordResultWriter writeAscii(String text) {
+        final int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) text.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * Writes UTF-8 bytes of the text, escaping markup characters and carriage return, that would be normalized to
+     * line feed by parser. Unpaired surrogates are replaced by {@code ?} as by {@link String#getBytes}.
+     */
+    private KeywordResultWriter writeText(String text) {
+        for (int i = 0, length = text.length(); i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '&':
+                        writeAscii("&amp;");
+                        break;
+                    case '<':
+                        writeAscii("&lt;");
+                        break;
+                    case '>':
+                        writeAscii("&gt;");
+                        break;
+                    case '\r':
+                        writeAscii("&#13;");
+                        break;
+                    default:
+                        ensureCapacity(1);
+                        buffer[size++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[size++] = (byte) (0xC0 | c >> 6);
+                buffer[size++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensureCapacity(4);
+                buffer[size++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                ensureCapacity(1);
+                buffer[size++] = '?';
+            } else {
+                ensureCapacity(3);
+                buffer[size++] = (byte) (0xE0 | c >> 12);
+                buffer[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[size++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return this;
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+}
@@ -17,21 +17,27 @@ package org.robotframework.remoteserver.servlet;
 import com.google.common.html.HtmlEscapers;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.apache.xmlrpc.XmlRpcException;
 import org.apache.xmlrpc.server.XmlRpcHandlerMapping;
+import org.apache.xmlrpc.server.XmlRpcServerConfigImpl;
 import org.apache.xmlrpc.webserver.XmlRpcServlet;
 import org.apache.xmlrpc.webserver.XmlRpcServletServer;
 import org.robotframework.remoteserver.exceptions.IllegalPathException;
+import org.robotframework.remoteserver.io.BufferPool;
 import org.robotframework.remoteserver.library.RemoteLibrary;
+import org.robotframework.remoteserver.metrics.KeywordMetrics;
+import org.robotframework.remoteserver.xmlrpc.MulticallHandler;
 import org.robotframework.remoteserver.xmlrpc.ReflectiveHandlerMapping;
 import org.robotframework.remoteserver.xmlrpc.TypeFactory;
 
@@ -42,9 +48,24 @@ import org.robotframework.remoteserver.xmlrpc.TypeFactory;
  */
 public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerContext {
 
-    private static final ThreadLocal<HttpServletRequest> request = new ThreadLocal<>();
-    private static final ThreadLocal<RemoteLibrary> currLibrary = new ThreadLocal<>();
+    /**
+     * Path serving {@link KeywordMetrics} in Prometheus text format on GET requests
+     */
+    public static final String METRICS_PATH = "/metrics";
+    private static final int RESPONSE_SEGMENT_SIZE = 32 * 1024;
+    private static final int MAX_DIRECT_RESPONSE_SEGMENTS = 128;
+    private static final int DEFAULT_GZIP_THRESHOLD = 8 * 1024;
+
     private final Map<String, RemoteLibrary> libraryMap = new ConcurrentHashMap<>();
+    private final KeywordMetrics keywordMetrics = new KeywordMetrics();
+    private final ResponseCache responseCache = new ResponseCache();
+    private final BufferPool responseBuffers = new BufferPool(RESPONSE_SEGMENT_SIZE, MAX_DIRECT_RESPONSE_SEGMENTS);
+    private volatile Executor multicallExecutor;
+    private volatile boolean extensionsEnabled;
+    private volatile boolean compactResponses = true;
+    private volatile boolean typedArguments = true;
+    private volatile int parallelSerializationThreshold;
+    private volatile int gzipThreshold = DEFAULT_GZIP_THRESHOLD;
 
     /**
      * Cleans up the path of an incoming request. Repeating /s are reduced to
@@ -88,11 +109,18 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
     }
 
     @Override public RemoteLibrary putLibrary(String path, RemoteLibrary library) {
-        return libraryMap.put(checkPath(path), Objects.requireNonNull(library));
+        if (METRICS_PATH.equals(path)) {
+            throw new IllegalPathException(String.format("Path [%s] is reserved for metrics.", path));
+        }
+        final RemoteLibrary previous = libraryMap.put(checkPath(path), Objects.requireNonNull(library));
+        responseCache.invalidate(path);
+        return previous;
     }
 
     @Override public RemoteLibrary removeLibrary(String path) {
-        return libraryMap.remove(path);
+        final RemoteLibrary removed = libraryMap.remove(path);
+        responseCache.invalidate(path);
+        return removed;
     }
 
     @Override public Map<String, RemoteLibrary> getLibraryMap() {
@@ -100,8 +128,15 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
     }
 
     @Override protected XmlRpcServletServer newXmlRpcServer(ServletConfig pConfig) throws XmlRpcException {
-        XmlRpcServletServer server = new XmlRpcServletServer();
-        server.setTypeFactory(new TypeFactory(this.getXmlRpcServletServer()));
+        RemoteXmlRpcServletServer server = new RemoteXmlRpcServletServer(responseCache, responseBuffers);
+        server.setCompact(compactResponses);
+        server.setTypedArguments(typedArguments);
+        server.setGzipThreshold(gzipThreshold);
+        final TypeFactory typeFactory = new TypeFactory(this.getXmlRpcServletServer());
+        typeFactory.loadSerializers(Thread.currentThread().getContextClassLoader());
+        typeFactory.setParallelThreshold(parallelSerializationThreshold);
+        server.setTypeFactory(typeFactory);
+        ((XmlRpcServerConfigImpl) server.getConfig()).setEnabledForExtensions(extensionsEnabled);
         return server;
     }
 
@@ -110,16 +145,108 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
         map.setRequestProcessorFactoryFactory(new RemoteServerRequestProcessorFactoryFactory(this));
         map.addHandler("keywords", ServerMethods.class);
         map.removePrefixes();
+        map.addHandler(MulticallHandler.METHOD_NAME, new MulticallHandler(map, () -> multicallExecutor,
+                RequestContext::wrap));
         return map;
     }
 
+    /**
+     * Sets {@link Executor} used for concurrent execution of calls batched by {@value MulticallHandler#METHOD_NAME}.
+     *
+     * @param executor Instance of {@link Executor}, or null if batched calls are executed sequentially
+     *                 on request thread, which is default.
+     */
+    public void setMulticallExecutor(Executor executor) {
+        this.multicallExecutor = executor;
+    }
+
+    /**
+     * Enables Apache XML-RPC extensions, so null values and numbers exceeding i4 are serialized as {@code ex:nil},
+     * {@code ex:i8}, {@code ex:biginteger} and {@code ex:bigdecimal} instead of empty and decimal strings. Clients
+     * need to understand the extensions.
+     *
+     * @param enabled If extensions are enabled, disabled by default
+     */
+    public void setExtensionsEnabled(boolean enabled) {
+        this.extensionsEnabled = enabled;
+        final XmlRpcServletServer server = getXmlRpcServletServer();
+        if (server != null) {
+            ((XmlRpcServerConfigImpl) server.getConfig()).setEnabledForExtensions(enabled);
+        }
+        responseCache.clear();
+    }
+
+    /**
+     * Sets format of {@code run_keyword} results, that are written without generic XML-RPC serialization. Compact
+     * results contain untyped strings and no whitespace, otherwise strings are typed and elements are separated
+     * by line breaks.
+     *
+     * @param compact If results are compact, which is default
+     */
+    public void setCompactResponses(boolean compact) {
+        this.compactResponses = compact;
+        final XmlRpcServletServer server = getXmlRpcServletServer();
+        if (server instanceof RemoteXmlRpcServletServer) {
+            ((RemoteXmlRpcServletServer) server).setCompact(compact);
+        }
+    }
+
+    /**
+     * Sets if arguments of {@code run_keyword} are decoded directly into argument types of keyword, when library
+     * provides them through {@link RemoteLibrary#getKeywordArgumentTypes(String)}. Arguments are converted same way
+     * as keyword would convert them, so keyword then skips their conversion.
+     *
+     * @param typed If arguments are decoded into argument types, which is default
+     */
+    public void setTypedArguments(boolean typed) {
+        this.typedArguments = typed;
+        final XmlRpcServletServer server = getXmlRpcServletServer();
+        if (server instanceof RemoteXmlRpcServletServer) {
+            ((RemoteXmlRpcServletServer) server).setTypedArguments(typed);
+        }
+    }
+
+    /**
+     * Sets minimal number of elements of returned arrays and collections, that are serialized in parallel chunks on
+     * common {@link java.util.concurrent.ForkJoinPool}, so huge results do not occupy single thread. Elements
+     * need to be safe to serialize from other threads.
+     *
+     * @param threshold Minimal number of elements, or 0 if elements are always serialized sequentially on request
+     *                  thread, which is default
+     */
+    public void setParallelSerializationThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold can not be negative: " + threshold);
+        }
+        this.parallelSerializationThreshold = threshold;
+        final XmlRpcServletServer server = getXmlRpcServletServer();
+        if (server != null && server.getTypeFactory() instanceof TypeFactory) {
+            ((TypeFactory) server.getTypeFactory()).setParallelThreshold(threshold);
+        }
+    }
+
+    /**
+     * Sets minimal size of responses, that are compressed by gzip if client accepts it. Content is held in memory
+     * until threshold is reached, so it should stay small.
+     *
+     * @param threshold Minimal size of response in bytes, 8 KiB by default, or negative number if responses are
+     *                  never compressed
+     */
+    public void setGzipThreshold(int threshold) {
+        this.gzipThreshold = threshold;
+        final XmlRpcServletServer server = getXmlRpcServletServer();
+        if (server instanceof RemoteXmlRpcServletServer) {
+            ((RemoteXmlRpcServletServer) server).setGzipThreshold(threshold);
+        }
+    }
+
     @Override protected void service(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
+        final RequestContext context = RequestContext.open(req, null, null);
         try {
-            request.set(req);
             super.service(req, resp);
         } finally {
-            request.remove();
+            context.close();
         }
     }
 
@@ -133,11 +260,16 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
          */
         String path = req.getPathInfo() == null ? req.getServletPath() : req.getPathInfo();
         path = cleanPath(path);
-        if (libraryMap.containsKey(path)) {
-            currLibrary.set(libraryMap.get(path));
+        final RemoteLibrary library = libraryMap.get(path);
+        if (library != null) {
             if ("HTTP/1.0".equals(req.getProtocol()))
                 resp.addHeader("Connection", "close");
-            super.doPost(req, resp);
+            final RequestContext context = RequestContext.open(req, path, library);
+            try {
+                super.doPost(req, resp);
+            } finally {
+                context.close();
+            }
         } else {
             resp.sendError(HttpServletResponse.SC_NOT_FOUND, String.format("No library mapped to %s", path));
         }
@@ -145,6 +277,15 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
 
     @Override protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
+        final String path = cleanPath(req.getPathInfo() == null ? req.getServletPath() : req.getPathInfo());
+        if (METRICS_PATH.equals(path)) {
+            final byte[] body = responseBuffers.writeTo(keywordMetrics.writeTo(new StringBuilder())).toString()
+                    .getBytes(StandardCharsets.UTF_8);
+            resp.setContentType(KeywordMetrics.CONTENT_TYPE);
+            resp.setContentLength(body.length);
+            resp.getOutputStream().write(body);
+            return;
+        }
         resp.setContentType("text/html");
         String body = getPage();
         resp.setContentLength(body.length());
@@ -152,8 +293,23 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
         out.print(body);
     }
 
+    /**
+     * @return Metrics of keywords executed by libraries of this servlet, exposed on {@value #METRICS_PATH}
+     */
+    public KeywordMetrics getKeywordMetrics() {
+        return keywordMetrics;
+    }
+
+    /**
+     * @return Pool of direct buffers that responses are serialized into, whose counters are exposed on
+     * {@value #METRICS_PATH}
+     */
+    public BufferPool getResponseBuffers() {
+        return responseBuffers;
+    }
+
     @Override public HttpServletRequest getRequest() {
-        return request.get();
+        return RequestContext.current().getRequest();
     }
 
     /**
@@ -188,7 +344,17 @@ public class RemoteServerServlet extends XmlRpcServlet implements RemoteServerCo
      * @return the library to use in the current context
      */
     public RemoteLibrary getLibrary() {
-        return currLibrary.get();
+        return RequestContext.current().getLibrary();
+    }
+
+    /**
+     * Returns the path of library to use in the current context, with the same restrictions
+     * as {@link #getLibrary()}.
+     *
+     * @return the path of library to use in the current context
+     */
+    public String getLibraryPath() {
+        return RequestContext.current().getPath();
     }
 
 }
@@ -0,0 +1,300 @@
+package org.robotframework.remoteserver.servlet;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.GZIPInputStream;
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.common.ServerStreamConnection;
+import org.apache.xmlrpc.common.XmlRpcStreamRequestConfig;
+import org.apache.xmlrpc.webserver.XmlRpcServletServer;
+import org.robotframework.remoteserver.io.BufferPool;
+import org.robotframework.remoteserver.io.CompressingOutputStream;
+import org.robotframework.remoteserver.io.SegmentedOutputStream;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+import org.robotframework.remoteserver.xmlrpc.NameTable;
+import org.robotframework.remoteserver.xmlrpc.RequestParser;
+import org.robotframework.remoteserver.xmlrpc.TypeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link XmlRpcServletServer} writing responses directly to the servlet output stream. Default server buffers whole
+ * response to compute its content length, that is not needed as servlet container computes it for responses
+ * fitting its buffer and uses chunked encoding otherwise. Results of {@code run_keyword} are written by pooled
+ * {@link KeywordResultWriter}s, when they contain only values it supports. Responses of keyword metadata calls are
+ * served from {@link ResponseCache} without dispatching the request. Other responses are serialized into pooled
+ * direct segments, that are handed to the servlet output in batches. Responses are not buffered whole, so when
+ * writing fails after first batch was handed to the servlet output, like when stream returned by keyword fails to be
+ * read, the failure is logged as broken response and the response is aborted instead of being replaced by fault,
+ * which client receives only for failures before that. Gzip encoded requests are decoded regardless
+ * of extensions, and responses reaching the threshold are compressed if client accepts gzip encoding. Requests are
+ * parsed by {@link RequestParser} resolving keyword names against table of library serving the request, while
+ * requests it does not support and requests exceeding 1 MiB, that are not buffered, are parsed by generic parser.
+ * Arguments of keywords with single implementation are decoded directly into its argument types, unless it is
+ * disabled.
+ */
+class RemoteXmlRpcServletServer extends XmlRpcServletServer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(RemoteXmlRpcServletServer.class.getName());
+    private static final int POOL_SIZE = 32;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int MAX_PENDING_SEGMENTS = 8;
+    private static final int DECOMPRESSION_BUFFER_SIZE = 8192;
+    static final int MAX_BUFFERED_REQUEST_SIZE = 1024 * 1024;
+
+    private final Queue<KeywordResultWriter> writers = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final ResponseCache responses;
+    private final BufferPool buffers;
+    // Keywords are immutable snapshot of library, so table is built once per library instance
+    private final LoadingCache<RemoteLibrary, KeywordTable> keywordTables = CacheBuilder.newBuilder().weakKeys()
+            .build(CacheLoader.from(KeywordTable::of));
+    private volatile boolean compact = true;
+    private volatile boolean typedArguments = true;
+    private volatile int gzipThreshold = -1;
+
+    /**
+     * @param responses Cache of keyword metadata responses
+     * @param buffers   Pool of segments that responses are serialized into
+     */
+    RemoteXmlRpcServletServer(ResponseCache responses, BufferPool buffers) {
+        this.responses = Objects.requireNonNull(responses);
+        this.buffers = Objects.requireNonNull(buffers);
+    }
+
+    /**
+     * @param compact If results of {@code run_keyword} are written with untyped strings and without whitespace
+     */
+    void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
+    /**
+     * @return If results of {@code run_keyword} are written with untyped strings and without whitespace
+     */
+    boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * @param typedArguments If arguments of {@code run_keyword} are decoded directly into argument types of keyword
+     */
+    void setTypedArguments(boolean typedArguments) {
+        this.typedArguments = typedArguments;
+    }
+
+    /**
+     * @return If arguments of {@code run_keyword} are decoded directly into argument types of keyword
+     */
+    boolean isTypedArguments() {
+        return typedArguments;
+    }
+
+    /**
+     * @param gzipThreshold Minimal size of response in bytes, that is compressed if client accepts gzip encoding,
+     *                      or negative number if responses are never compressed
+     */
+    void setGzipThreshold(int gzipThreshold) {
+        this.gzipThreshold = gzipThreshold;
+    }
+
+    /**
+     * @return Minimal size of response in bytes, that is compressed, or negative number if responses are never
+     * compressed
+     */
+    int getGzipThreshold() {
+        return gzipThreshold;
+    }
+
+    @Override protected InputStream getInputStream(XmlRpcStreamRequestConfig pConfig,
+            ServerStreamConnection pConnection) throws IOException {
+        final InputStream stream = pConnection.newInputStream();
+        return pConfig.isGzipCompressing() ? new GZIPInputStream(stream, DECOMPRESSION_BUFFER_SIZE) : stream;
+    }
+
+    @Override protected XmlRpcRequest getRequest(XmlRpcStreamRequestConfig pConfig, InputStream pStream)
+            throws XmlRpcException {
+        final byte[] body;
+        try {
+            body = ByteStreams.toByteArray(ByteStreams.limit(pStream, MAX_BUFFERED_REQUEST_SIZE + 1L));
+        } catch (IOException e) {
+            throw new XmlRpcException("Failed to read XML-RPC request: " + e.getMessage(), e);
+        }
+        if (body.length > MAX_BUFFERED_REQUEST_SIZE) {
+            // Rest of decoded body can be arbitrarily large, so it is streamed to generic parser
+            return super.getRequest(pConfig, new SequenceInputStream(new ByteArrayInputStream(body), pStream));
+        }
+        final RemoteLibrary library = RequestContext.current().getLibrary();
+        final KeywordTable keywords = library == null ? KeywordTable.EMPTY : keywordTables.getUnchecked(library);
+        final XmlRpcRequest request = RequestParser.parse(pConfig, body, body.length, keywords.names,
+                typedArguments ? keywords.argumentTypes : Collections.emptyMap());
+        return request == null ? super.getRequest(pConfig, new ByteArrayInputStream(body)) : request;
+    }
+
+    @Override protected OutputStream getOutputStream(ServerStreamConnection pConnection,
+            XmlRpcStreamRequestConfig pConfig, OutputStream pStream) {
+        final int threshold = gzipThreshold;
+        if (threshold < 0 || !pConfig.isGzipRequesting()) {
+            return pStream;
+        }
+        return new CompressingOutputStream(pStream, threshold, () -> {
+            setResponseHeader(pConnection, "Content-Encoding", "gzip");
+            setResponseHeader(pConnection, "Vary", "Accept-Encoding");
+        });
+    }
+
+    /**
+     * Response is streamed instead of being buffered to compute its length, so failures after first batch of segments
+     * was sent can not be reported as fault, see {@link #writeResponse}
+     */
+    @Override protected boolean isContentLengthRequired(XmlRpcStreamRequestConfig pConfig) {
+        return false;
+    }
+
+    @Override public Object execute(XmlRpcRequest pRequest) throws XmlRpcException {
+        final RequestContext context = RequestContext.current();
+        final RemoteLibrary library = context.getLibrary();
+        final String key = library == null ? null : ResponseCache.getKey(pRequest);
+        if (key == null) {
+            return super.execute(pRequest);
+        }
+        final byte[] cached = responses.get(context.getPath(), library, key);
+        if (cached != null) {
+            return new CachedResponse(cached);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        super.writeResponse((XmlRpcStreamRequestConfig) pRequest.getConfig(), stream, super.execute(pRequest));
+        final byte[] response = stream.toByteArray();
+        responses.put(context.getPath(), library, key, response);
+        return new CachedResponse(response);
+    }
+
+    @Override protected void writeResponse(XmlRpcStreamRequestConfig pConfig, OutputStream pStream, Object pResult)
+            throws XmlRpcException {
+        if (pResult instanceof CachedResponse) {
+            try {
+                pStream.write(((CachedResponse) pResult).response);
+                return;
+            } catch (IOException e) {
+                throw new XmlRpcException("Failed to write XML-RPC response: " + e.getMessage(), e);
+            }
+        }
+        if (pResult instanceof KeywordResult) {
+            final KeywordResultWriter polled = writers.poll();
+            final KeywordResultWriter writer = polled == null ? new KeywordResultWriter() : polled;
+            try {
+                if (writer.write((KeywordResult) pResult, compact, isLongWrittenAsString(pConfig))) {
+                    writer.writeTo(pStream);
+                    return;
+                }
+            } catch (IOException e) {
+                throw new XmlRpcException("Failed to write XML-RPC response: " + e.getMessage(), e);
+            } finally {
+                if (writer.capacity() <= MAX_RETAINED_CAPACITY) {
+                    writers.offer(writer);
+                }
+            }
+        }
+        final SegmentedOutputStream segments = new SegmentedOutputStream(pStream, buffers, MAX_PENDING_SEGMENTS);
+        try {
+            super.writeResponse(pConfig, segments, pResult);
+            segments.close();
+        } catch (IOException e) {
+            throw broken(segments, new XmlRpcException("Failed to write XML-RPC response: " + e.getMessage(), e));
+        } catch (XmlRpcException e) {
+            throw broken(segments, e);
+        } catch (RuntimeException e) {
+            throw broken(segments, e);
+        } finally {
+            segments.release();
+        }
+    }
+
+    /**
+     * Logs failure of response, whose part was already handed to the servlet output, so it can not be replaced by
+     * fault and client receives truncated response
+     *
+     * @param segments Stream the response was written to
+     * @param e        Failure of writing
+     * @param <T>      Type of failure
+     * @return Provided failure
+     */
+    private static <T extends Exception> T broken(SegmentedOutputStream segments, T e) {
+        if (segments.isWritten()) {
+            LOG.error("Broken XML-RPC response, failed after part of it was sent: {}", e.getMessage(), e);
+        }
+        return e;
+    }
+
+    /**
+     * @param pConfig Configuration of written response
+     * @return If long numbers are written as strings, same as by {@link TypeFactory} without custom serializer
+     */
+    private boolean isLongWrittenAsString(XmlRpcStreamRequestConfig pConfig) {
+        return !pConfig.isEnabledForExtensions() && getTypeFactory() instanceof TypeFactory
+                && !((TypeFactory) getTypeFactory()).hasCustomSerializer(Long.class);
+    }
+
+    /**
+     * Response that is already encoded
+     */
+    private static final class CachedResponse {
+
+        private final byte[] response;
+
+        private CachedResponse(byte[] response) {
+            this.response = response;
+        }
+    }
+
+    /**
+     * Names and argument types of keywords of single library
+     */
+    private static final class KeywordTable {
+
+        private static final KeywordTable EMPTY = new KeywordTable(NameTable.empty(), Collections.emptyMap());
+
+        private final NameTable names;
+        private final Map<String, Class<?>[]> argumentTypes;
+
+        private KeywordTable(NameTable names, Map<String, Class<?>[]> argumentTypes) {
+            this.names = names;
+            this.argumentTypes = argumentTypes;
+        }
+
+        private static KeywordTable of(RemoteLibrary library) {
+            final String[] keywords;
+            try {
+                keywords = library.getKeywordNames();
+            } catch (RuntimeException e) {
+                return EMPTY;
+            }
+            final Map<String, Class<?>[]> argumentTypes = new HashMap<>();
+            for (String keyword : keywords == null ? new String[0] : keywords) {
+                try {
+                    final Class<?>[] types = keyword == null ? null : library.getKeywordArgumentTypes(keyword);
+                    if (types != null) {
+                        argumentTypes.put(keyword, types);
+                    }
+                } catch (RuntimeException e) {
+                    // Arguments of keyword are decoded as they are typed
+                }
+            }
+            return new KeywordTable(new NameTable(keywords), argumentTypes);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.robotframework.remoteserver.servlet;
+
+import java.util.concurrent.Callable;
+import javax.servlet.http.HttpServletRequest;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+
+/**
+ * Immutable context of request being processed, carried by single thread local slot, that is always
+ * cleared when processing ends. Compared to separate thread locals for each value it keeps thread local map
+ * of short-lived virtual threads minimal, and whole context can be handed over to other thread at once.
+ */
+final class RequestContext implements AutoCloseable {
+
+    private static final ThreadLocal<RequestContext> current = new ThreadLocal<>();
+    private static final RequestContext EMPTY = new RequestContext(null, null, null, null);
+
+    private final HttpServletRequest request;
+    private final String path;
+    private final RemoteLibrary library;
+    private final RequestContext previous;
+
+    private RequestContext(HttpServletRequest request, String path, RemoteLibrary library, RequestContext previous) {
+        this.request = request;
+        this.path = path;
+        this.library = library;
+        this.previous = previous;
+    }
+
+    /**
+     * Binds context to the calling thread, until {@link #close()} is called
+     *
+     * @param request Request being processed
+     * @param path    Path of library serving the request
+     * @param library Library serving the request, or null if request is not served by library
+     * @return Context bound to the calling thread
+     */
+    static RequestContext open(HttpServletRequest request, String path, RemoteLibrary library) {
+        final RequestContext context = new RequestContext(request, path, library, current.get());
+        current.set(context);
+        return context;
+    }
+
+    /**
+     * @return Context bound to the calling thread, or empty context if there is none
+     */
+    static RequestContext current() {
+        final RequestContext context = current.get();
+        return context == null ? EMPTY : context;
+    }
+
+    /**
+     * Binds provided task to the context of the calling thread
+     *
+     * @param task Task that will be executed on other thread
+     * @param <T>  Type of task result
+     * @return Task executed in context of the calling thread
+     */
+    static <T> Callable<T> wrap(Callable<T> task) {
+        final RequestContext context = current();
+        return () -> {
+            final RequestContext bound = open(context.request, context.path, context.library);
+            try {
+                return task.call();
+            } finally {
+                bound.close();
+            }
+        };
+    }
+
+    /**
+     * @return Request being processed
+     */
+    HttpServletRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return Path of library serving the request
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * @return Library serving the request
+     */
+    RemoteLibrary getLibrary() {
+        return library;
+    }
+
+    /**
+     * Restores context that was bound to the calling thread before
+     */
+    @Override public void close() {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.robotframework.remoteserver.servlet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+
+/**
+ * Cache of encoded responses of calls returning keyword metadata, that does not change for the life of library.
+ * Responses are cached per library path and keyed by method and keyword. Responses are bound to the library instance
+ * that produced them, so response of replaced library is never served, even if it was stored after invalidation.
+ */
+final class ResponseCache {
+
+    private static final Set<String> LIBRARY_METHODS =
+            new HashSet<>(Arrays.asList("get_keyword_names", "get_library_information"));
+    private static final Set<String> KEYWORD_METHODS = new HashSet<>(
+            Arrays.asList("get_keyword_arguments", "get_keyword_tags", "get_keyword_documentation"));
+    private static final int MAX_RESPONSES_PER_LIBRARY = 4096;
+
+    private final Map<String, LibraryResponses> responses = new ConcurrentHashMap<>();
+
+    /**
+     * @param request Request being processed
+     * @return Key of cached response of request, or null if response of request is not cached
+     */
+    static String getKey(XmlRpcRequest request) {
+        final String method = request.getMethodName();
+        if (request.getParameterCount() == 0 && LIBRARY_METHODS.contains(method)) {
+            return method;
+        } else if (request.getParameterCount() == 1 && request.getParameter(0) instanceof String
+                && KEYWORD_METHODS.contains(method)) {
+            return method + '\0' + request.getParameter(0);
+        }
+        return null;
+    }
+
+    /**
+     * @param path    Path of library
+     * @param library Library serving the request
+     * @param key     Key of response
+     * @return Cached response, or null if there is none
+     */
+    byte[] get(String path, RemoteLibrary library, String key) {
+        final LibraryResponses cached = responses.get(path);
+        return cached == null || cached.library != library ? null : cached.responses.get(key);
+    }
+
+    /**
+     * @param path     Path of library
+     * @param library  Library that produced the response
+     * @param key      Key of response
+     * @param response Encoded response
+     */
+    void put(String path, RemoteLibrary library, String key, byte[] response) {
+        final LibraryResponses cached = responses.compute(path,
+                (ignored, current) -> current == null || current.library != library ?
+                        new LibraryResponses(library) :
+                        current);
+        if (cached.responses.size() < MAX_RESPONSES_PER_LIBRARY) {
+            cached.responses.put(key, response);
+        }
+    }
+
+    /**
+     * Removes responses cached for the library path
+     *
+     * @param path Path of library
+     */
+    void invalidate(String path) {
+        responses.remove(path);
+    }
+
+    /**
+     * Removes all cached responses
+     */
+    void clear() {
+        responses.clear();
+    }
+
+    /**
+     * Responses produced by single library instance
+     */
+    private static final class LibraryResponses {
+
+        private final RemoteLibrary library;
+        private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+
+        private LibraryResponses(RemoteLibrary library) {
+            this.library = library;
+        }
+    }
+}
@@ -14,14 +14,15 @@
  */
 package org.robotframework.remoteserver.servlet;
 
-import com.google.common.base.Strings;
 import com.google.common.base.Throwables;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import org.robotframework.javalib.util.StdStreamRedirecter;
+import org.robotframework.remoteserver.io.OutputCapture;
+import org.robotframework.remoteserver.metrics.KeywordMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,9 +58,9 @@ public class ServerMethods implements JRobotServlet {
     }
 
     @Override public Map<String, Object> run_keyword(String keyword, Object[] args, Map<String, Object> kwargs) {
-        Map<String, Object> result = new HashMap<>();
-        StdStreamRedirecter redirector = new StdStreamRedirecter();
-        redirector.redirectStdStreams();
+        final long start = System.nanoTime();
+        Map<String, Object> result = new KeywordResult();
+        final OutputCapture capture = OutputCapture.start();
         try {
             result.put("status", "PASS");
             Object retObj;
@@ -91,8 +92,9 @@ public class ServerMethods implements JRobotServlet {
                 result.put("fatal", true);
             }
         } finally {
-            String stdOut = Strings.nullToEmpty(redirector.getStdOutAsString());
-            String stdErr = Strings.nullToEmpty(redirector.getStdErrAsString());
+            capture.close();
+            String stdOut = capture.getStdOut();
+            String stdErr = capture.getStdErr();
             if (!stdOut.isEmpty() || !stdErr.isEmpty()) {
                 StringBuilder output = new StringBuilder(stdOut);
                 if (!stdOut.isEmpty() && !stdErr.isEmpty()) {
@@ -112,7 +114,11 @@ public class ServerMethods implements JRobotServlet {
                 }
                 result.put("output", output.append(stdErr).toString());
             }
-            redirector.resetStdStreams();
+            final KeywordMetrics metrics = servlet.getKeywordMetrics();
+            if (metrics != null) {
+                metrics.record(servlet.getLibraryPath(), metrics.getKeywordLabel(servlet.getLibrary(), keyword),
+                        "PASS".equals(result.get("status")), System.nanoTime() - start);
+            }
         }
         return result;
     }
@@ -144,6 +150,11 @@ public class ServerMethods implements JRobotServlet {
         return doc == null ? "" : doc;
     }
 
+    @Override public Map<String, Map<String, Object>> get_library_information() {
+        final Map<String, Map<String, Object>> information = servlet.getLibrary().getLibraryInformation();
+        return information == null ? Collections.emptyMap() : information;
+    }
+
     /**
      * Extract error message from provided {@link Throwable}
      *
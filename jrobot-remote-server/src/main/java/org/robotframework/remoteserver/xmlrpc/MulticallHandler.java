@@ -0,0 +1,196 @@
+package org.robotframework.remoteserver.xmlrpc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcHandler;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.XmlRpcRequestConfig;
+import org.apache.xmlrpc.metadata.XmlRpcMetaDataHandler;
+import org.apache.xmlrpc.server.XmlRpcHandlerMapping;
+
+/**
+ * Handler of {@value #METHOD_NAME}, that executes batch of calls through handlers of {@link XmlRpcHandlerMapping}.
+ * Every call is reported separately, either as single element array containing its result, or as struct containing
+ * {@code faultCode} and {@code faultString}. Calls are executed sequentially on request thread, unless
+ * {@link Executor} is provided.
+ */
+public class MulticallHandler implements XmlRpcHandler, XmlRpcMetaDataHandler {
+
+    public static final String METHOD_NAME = "system.multicall";
+    private static final String METHOD_NAME_KEY = "methodName", PARAMS_KEY = "params";
+    private static final String FAULT_CODE_KEY = "faultCode", FAULT_STRING_KEY = "faultString";
+
+    private final XmlRpcHandlerMapping mapping;
+    private final Supplier<Executor> executor;
+    private final UnaryOperator<Callable<Object>> binder;
+
+    /**
+     * Constructor creating {@link MulticallHandler} executing calls sequentially
+     *
+     * @param mapping Mapping providing handlers of calls
+     */
+    public MulticallHandler(XmlRpcHandlerMapping mapping) {
+        this(mapping, () -> null, UnaryOperator.identity());
+    }
+
+    /**
+     * Constructor creating {@link MulticallHandler}
+     *
+     * @param mapping  Mapping providing handlers of calls
+     * @param executor Supplies {@link Executor} used for concurrent execution of calls, or null if calls
+     *                 are executed sequentially
+     * @param binder   Binds calls executed by {@link Executor} to the context of request thread
+     */
+    public MulticallHandler(XmlRpcHandlerMapping mapping, Supplier<Executor> executor,
+            UnaryOperator<Callable<Object>> binder) {
+        this.mapping = Objects.requireNonNull(mapping);
+        this.executor = Objects.requireNonNull(executor);
+        this.binder = Objects.requireNonNull(binder);
+    }
+
+    @Override public Object execute(XmlRpcRequest request) throws XmlRpcException {
+        if (request.getParameterCount() != 1) {
+            throw new XmlRpcException(String.format("%s takes 1 argument(s), received %d.", METHOD_NAME,
+                    request.getParameterCount()));
+        }
+        final List<Object> calls = toList(request.getParameter(0));
+        final List<Callable<Object>> tasks = new ArrayList<>(calls.size());
+        for (Object call : calls) {
+            tasks.add(() -> invoke(request.getConfig(), call));
+        }
+        final Executor currentExecutor = executor.get();
+        final Object[] results = new Object[tasks.size()];
+        if (currentExecutor == null || tasks.size() < 2) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = call(tasks.get(i));
+            }
+            return results;
+        }
+        final List<FutureTask<Object>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Object> task : tasks) {
+            final FutureTask<Object> future = new FutureTask<>(binder.apply(task));
+            futures.add(future);
+            try {
+                currentExecutor.execute(future);
+            } catch (RejectedExecutionException e) {
+                future.run();
+            }
+        }
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new XmlRpcException(METHOD_NAME + " interrupted", e);
+        } catch (ExecutionException e) {
+            throw new XmlRpcException(METHOD_NAME + " failed", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Executes single call of batch, while failure of call is converted to fault struct
+     *
+     * @param config Configuration of {@value #METHOD_NAME} request
+     * @param call   Struct containing {@code methodName} and {@code params}
+     * @return Single element array containing result of call or fault struct
+     */
+    private Object invoke(XmlRpcRequestConfig config, Object call) {
+        try {
+            if (!(call instanceof Map)) {
+                throw new XmlRpcException("Call is not a struct: " + call);
+            }
+            final Map<?, ?> struct = (Map<?, ?>) call;
+            final Object methodName = struct.get(METHOD_NAME_KEY);
+            if (!(methodName instanceof String)) {
+                throw new XmlRpcException("Call is missing " + METHOD_NAME_KEY);
+            } else if (METHOD_NAME.equals(methodName)) {
+                throw new XmlRpcException("Recursive " + METHOD_NAME + " is not allowed");
+            }
+            final Object params = struct.get(PARAMS_KEY);
+            final List<Object> parameters = params == null ? Collections.emptyList() : toList(params);
+            final XmlRpcHandler handler = mapping.getHandler((String) methodName);
+            return new Object[] {handler.execute(new CallRequest(config, (String) methodName, parameters))};
+        } catch (Throwable e) {
+            final Map<String, Object> fault = new HashMap<>();
+            fault.put(FAULT_CODE_KEY, e instanceof XmlRpcException ? ((XmlRpcException) e).code : 0);
+            fault.put(FAULT_STRING_KEY, e.getMessage() == null ? e.getClass().getName() : e.getMessage());
+            return fault;
+        }
+    }
+
+    private static Object call(Callable<Object> task) throws XmlRpcException {
+        try {
+            return task.call();
+        } catch (XmlRpcException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new XmlRpcException(METHOD_NAME + " failed", e);
+        }
+    }
+
+    private static List<Object> toList(Object array) throws XmlRpcException {
+        if (array instanceof Object[]) {
+            return Arrays.asList((Object[]) array);
+        } else if (array instanceof List) {
+            return Collections.unmodifiableList((List<?>) array);
+        }
+        throw new XmlRpcException("Expected array, received " + array);
+    }
+
+    @Override public String[][] getSignatures() {
+        return new String[][] {{"array", "array"}};
+    }
+
+    @Override public String getMethodHelp() {
+        return "Executes array of structs containing methodName and params, "
+                + "returning array of results or fault structs.";
+    }
+
+    /**
+     * {@link XmlRpcRequest} representing single call of batch
+     */
+    private static final class CallRequest implements XmlRpcRequest {
+
+        private final XmlRpcRequestConfig config;
+        private final String methodName;
+        private final List<Object> parameters;
+
+        private CallRequest(XmlRpcRequestConfig config, String methodName, List<Object> parameters) {
+            this.config = config;
+            this.methodName = methodName;
+            this.parameters = parameters;
+        }
+
+        @Override public XmlRpcRequestConfig getConfig() {
+            return config;
+        }
+
+        @Override public String getMethodName() {
+            return methodName;
+        }
+
+        @Override public int getParameterCount() {
+            return parameters.size();
+        }
+
+        @Override public Object getParameter(int index) {
+            return parameters.get(index);
+        }
+    }
+}
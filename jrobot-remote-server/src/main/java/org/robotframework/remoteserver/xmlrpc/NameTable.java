@@ -0,0 +1,92 @@
+package org.robotframework.remoteserver.xmlrpc;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable table of names, that resolves names encoded as ASCII bytes to their canonical {@link String} instances
+ * without allocation. Lookup computes the same hash as {@link String#hashCode()}, so it is done in single pass.
+ */
+public final class NameTable {
+
+    private static final NameTable EMPTY = new NameTable();
+
+    private final String[] slots;
+    private final int mask;
+
+    /**
+     * @param names Canonical instances of names, null names are ignored
+     */
+    public NameTable(String... names) {
+        final String[] present = Arrays.stream(names == null ? new String[0] : names).filter(Objects::nonNull)
+                .distinct().toArray(String[]::new);
+        int capacity = 4;
+        while (capacity < present.length * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+        for (String name : present) {
+            int slot = spread(name.hashCode()) & mask;
+            while (slots[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = name;
+        }
+    }
+
+    /**
+     * @return Table without any names
+     */
+    public static NameTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param bytes Buffer containing ASCII encoded name
+     * @param start Index of first byte of name
+     * @param end   Index following last byte of name
+     * @return Canonical instance of name, or null if table does not contain it
+     */
+    public String get(byte[] bytes, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        for (int slot = spread(hash) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(slots[slot], bytes, start, end)) {
+                return slots[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param name Name to look up
+     * @return Canonical instance of name, or provided name if table does not contain it
+     */
+    public String get(String name) {
+        for (int slot = spread(name.hashCode()) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (slots[slot].equals(name)) {
+                return slots[slot];
+            }
+        }
+        return name;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String name, byte[] bytes, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcHandler;
 import org.apache.xmlrpc.server.AbstractReflectiveHandlerMapping;
 
 public class ReflectiveHandlerMapping extends AbstractReflectiveHandlerMapping {
@@ -53,4 +54,14 @@ public class ReflectiveHandlerMapping extends AbstractReflectiveHandlerMapping {
     public void addHandler(String pKey, Class<?> pClass) throws XmlRpcException {
         registerPublicMethods(pKey, pClass);
     }
+
+    /**
+     * Adds handler for the given key to the mapping.
+     *
+     * @param pKey     The key of handler, which is not affected by {@link #removePrefixes()} called before.
+     * @param pHandler Handler, which is responsible for handling the request.
+     */
+    @SuppressWarnings("unchecked") public void addHandler(String pKey, XmlRpcHandler pHandler) {
+        this.handlerMap.put(pKey, pHandler);
+    }
 }
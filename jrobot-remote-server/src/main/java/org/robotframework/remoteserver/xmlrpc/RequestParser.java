@@ -0,0 +1,603 @@
+package org.robotframework.remoteserver.xmlrpc;
+
+import com.google.common.primitives.Primitives;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.XmlRpcRequestConfig;
+
+/**
+ * Pull parser of XML-RPC method calls, that reads UTF-8 encoded request body directly. Method names, and names of
+ * keywords passed as first parameter of {@code run_keyword} and {@code get_keyword_*} calls, are resolved to
+ * canonical instances through {@link NameTable}s, so only argument values are allocated. Parser supports strings,
+ * {@code i4}, {@code int}, {@code boolean}, {@code double}, arrays and structs. Requests using other types, comments,
+ * attributes or other encodings are not supported and need to be parsed by generic XML-RPC parser.
+ * <p>
+ * If types of arguments of keyword called by {@code run_keyword} are known, arguments are decoded directly into
+ * them, integers straight from request body. Arguments are converted by same rules as by
+ * {@link org.robotframework.javalib.reflection.ArgumentConverter}. If array is passed as list, arrays of all
+ * arguments are converted to lists, as they are when keyword rejects arrays, so keyword receives same values as if
+ * it converted them itself. Values that cannot be converted are
+ * left as decoded, so keyword reports them as before.
+ */
+public final class RequestParser {
+
+    private static final NameTable METHODS = new NameTable("run_keyword", "get_keyword_names",
+            "get_keyword_arguments", "get_keyword_tags", "get_keyword_documentation", "get_library_information",
+            MulticallHandler.METHOD_NAME);
+    private static final String RUN_KEYWORD = "run_keyword";
+    private static final Set<String> KEYWORD_METHODS = new HashSet<>(Arrays.asList("run_keyword",
+            "get_keyword_arguments", "get_keyword_tags", "get_keyword_documentation"));
+    private static final byte[] METHOD_CALL = ascii("methodCall"), METHOD_NAME = ascii("methodName"),
+            PARAMS = ascii("params"), PARAM = ascii("param"), VALUE = ascii("value"), STRING = ascii("string"),
+            I4 = ascii("i4"), INT = ascii("int"), BOOLEAN = ascii("boolean"), DOUBLE = ascii("double"),
+            ARRAY = ascii("array"), DATA = ascii("data"), STRUCT = ascii("struct"), MEMBER = ascii("member"),
+            NAME = ascii("name");
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+    // Any number of this many digits fits into long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final byte[] bytes;
+    private final int end;
+    private int position;
+
+    private RequestParser(byte[] bytes, int end) {
+        this.bytes = bytes;
+        this.end = end;
+    }
+
+    /**
+     * @param config   Configuration of request
+     * @param bytes    Buffer containing request body
+     * @param length   Length of request body
+     * @param keywords Names of keywords of library serving the request
+     * @return Parsed request, or null if request is not supported by this parser
+     */
+    public static XmlRpcRequest parse(XmlRpcRequestConfig config, byte[] bytes, int length, NameTable keywords) {
+        return parse(config, bytes, length, keywords, Collections.emptyMap());
+    }
+
+    /**
+     * @param config        Configuration of request
+     * @param bytes         Buffer containing request body
+     * @param length        Length of request body
+     * @param keywords      Names of keywords of library serving the request
+     * @param argumentTypes Types of arguments keywords are executed with, keyed by keyword name
+     * @return Parsed request, or null if request is not supported by this parser
+     */
+    public static XmlRpcRequest parse(XmlRpcRequestConfig config, byte[] bytes, int length, NameTable keywords,
+            Map<String, Class<?>[]> argumentTypes) {
+        try {
+            return new RequestParser(bytes, length).parseCall(config, keywords, argumentTypes);
+        } catch (Unsupported | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static byte[] ascii(String name) {
+        return name.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private XmlRpcRequest parseCall(XmlRpcRequestConfig config, NameTable keywords,
+            Map<String, Class<?>[]> argumentTypes) {
+        skipDeclaration();
+        skipWhitespace();
+        expectStart(METHOD_CALL);
+        skipWhitespace();
+        expectStart(METHOD_NAME);
+        final String methodName = readText(METHODS);
+        expectEnd(METHOD_NAME);
+        skipWhitespace();
+        final List<Object> params = new ArrayList<>();
+        if (isStart(PARAMS)) {
+            if (!startElement(PARAMS)) {
+                skipWhitespace();
+                while (isStart(PARAM)) {
+                    startElement(PARAM);
+                    skipWhitespace();
+                    final boolean keyword = params.isEmpty() && KEYWORD_METHODS.contains(methodName);
+                    final Class<?>[] types = params.size() == 1 && RUN_KEYWORD.equals(methodName) ?
+                            argumentTypes.get(params.get(0)) : null;
+                    params.add(types == null ? readValue(keyword ? keywords : null) : readArguments(types));
+                    skipWhitespace();
+                    expectEnd(PARAM);
+                    skipWhitespace();
+                }
+                expectEnd(PARAMS);
+            }
+            skipWhitespace();
+        }
+        expectEnd(METHOD_CALL);
+        skipWhitespace();
+        if (position != end) {
+            throw UNSUPPORTED;
+        }
+        return new ParsedRequest(config, methodName, params.toArray());
+    }
+
+    /**
+     * Reads value element
+     *
+     * @param names Names, that string value is resolved against, or null if value is not name
+     * @return Value of element
+     */
+    private Object readValue(NameTable names) {
+        if (startElement(VALUE)) {
+            return "";
+        }
+        final int textStart = position;
+        skipWhitespace();
+        if (bytes[position] != '<' || bytes[position + 1] == '/') {
+            position = textStart;
+            final String text = readText(names);
+            expectEnd(VALUE);
+            return text;
+        }
+        final Object value;
+        if (isStart(STRING)) {
+            value = startElement(STRING) ? "" : readTextUntilEnd(STRING, names);
+        } else if (isStart(I4)) {
+            value = Integer.valueOf(readAtomic(I4));
+        } else if (isStart(INT)) {
+            value = Integer.valueOf(readAtomic(INT));
+        } else if (isStart(BOOLEAN)) {
+            final String text = readAtomic(BOOLEAN);
+            if (!"1".equals(text) && !"0".equals(text)) {
+                throw UNSUPPORTED;
+            }
+            value = "1".equals(text);
+        } else if (isStart(DOUBLE)) {
+            value = Double.valueOf(readAtomic(DOUBLE));
+        } else if (isStart(ARRAY)) {
+            value = readArray(null);
+        } else if (isStart(STRUCT)) {
+            value = readStruct();
+        } else {
+            throw UNSUPPORTED;
+        }
+        skipWhitespace();
+        expectEnd(VALUE);
+        return value;
+    }
+
+    private String readTextUntilEnd(byte[] name, NameTable names) {
+        final String text = readText(names);
+        expectEnd(name);
+        return text;
+    }
+
+    private String readAtomic(byte[] name) {
+        if (startElement(name)) {
+            throw UNSUPPORTED;
+        }
+        return readTextUntilEnd(name, null).trim();
+    }
+
+    /**
+     * Reads value element containing positional arguments of keyword
+     *
+     * @param types Types of arguments keyword is executed with
+     * @return Arguments, decoded into their types where possible
+     */
+    private Object readArguments(Class<?>[] types) {
+        final int start = position;
+        if (!startElement(VALUE)) {
+            skipWhitespace();
+            if (isStart(ARRAY)) {
+                final Object[] arguments = readArray(types);
+                if (hasArrayForList(arguments, types)) {
+                    for (int i = 0; i < arguments.length; i++) {
+                        arguments[i] = toLists(arguments[i]);
+                    }
+                }
+                skipWhitespace();
+                expectEnd(VALUE);
+                return arguments;
+            }
+        }
+        position = start;
+        return readValue(null);
+    }
+
+    /**
+     * @param arguments Decoded arguments
+     * @param types     Types of arguments keyword is executed with
+     * @return If array is passed as argument of list type, so keyword would reject arrays
+     */
+    private static boolean hasArrayForList(Object[] arguments, Class<?>[] types) {
+        for (int i = 0; i < arguments.length && i < types.length; i++) {
+            if (arguments[i] instanceof Object[] && types[i].isAssignableFrom(List.class)
+                    && !types[i].isInstance(arguments[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param types Types that values are decoded into, or null if values are decoded as they are typed
+     */
+    private Object[] readArray(Class<?>[] types) {
+        startElement(ARRAY);
+        skipWhitespace();
+        final List<Object> values = new ArrayList<>();
+        if (!startElement(DATA)) {
+            skipWhitespace();
+            while (isStart(VALUE)) {
+                final int index = values.size();
+                values.add(types != null && index < types.length ? readArgument(types[index]) : readValue(null));
+                skipWhitespace();
+            }
+            expectEnd(DATA);
+            skipWhitespace();
+        }
+        expectEnd(ARRAY);
+        return values.toArray();
+    }
+
+    private Object readArgument(Class<?> type) {
+        final Object integer = readInteger(type);
+        return integer != null ? integer : convert(readValue(null), type);
+    }
+
+    /**
+     * Reads untyped or string value containing only decimal digits with optional sign directly into integral type
+     *
+     * @param type Type of argument
+     * @return Value of argument, or null if value is not plain integer of type, in which case nothing is consumed
+     */
+    private Object readInteger(Class<?> type) {
+        final Class<?> boxed = Primitives.wrap(type);
+        if (boxed != Integer.class && boxed != Long.class) {
+            return null;
+        }
+        final int start = position;
+        if (startElement(VALUE)) {
+            position = start;
+            return null;
+        }
+        final boolean string = isStart(STRING);
+        if (string && startElement(STRING)) {
+            position = start;
+            return null;
+        }
+        final boolean negative = bytes[position] == '-';
+        if (negative || bytes[position] == '+') {
+            position++;
+        }
+        final int digits = position;
+        long value = 0;
+        while (position < end && bytes[position] >= '0' && bytes[position] <= '9'
+                && position - digits < MAX_LONG_DIGITS) {
+            value = value * 10 + bytes[position++] - '0';
+        }
+        value = negative ? -value : value;
+        if (position == digits || position == end || bytes[position] != '<'
+                || boxed == Integer.class && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+            position = start;
+            return null;
+        }
+        if (string) {
+            expectEnd(STRING);
+        }
+        expectEnd(VALUE);
+        return boxed == Integer.class ? (Object) Integer.valueOf((int) value) : (Object) Long.valueOf(value);
+    }
+
+    /**
+     * Converts decoded value to type of argument, as {@link org.robotframework.javalib.reflection.ArgumentConverter}
+     * would do
+     *
+     * @param value Decoded value
+     * @param type  Type of argument
+     * @return Converted value, or decoded value if it cannot be converted
+     */
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof Object[]) {
+            return value;
+        }
+        final Class<?> boxed = Primitives.wrap(type);
+        final String text = value.toString();
+        try {
+            if (boxed == Integer.class) {
+                return Integer.valueOf(text);
+            } else if (boxed == Long.class) {
+                return Long.valueOf(text);
+            } else if (boxed == Short.class) {
+                return Short.valueOf(text);
+            } else if (boxed == Byte.class) {
+                return Byte.valueOf(text);
+            } else if (boxed == Boolean.class) {
+                return Boolean.valueOf(text);
+            } else if (boxed == Float.class) {
+                return Float.valueOf(text);
+            } else if (boxed == Double.class) {
+                return Double.valueOf(text);
+            } else if (boxed == String.class) {
+                return text;
+            }
+        } catch (NumberFormatException e) {
+            return value;
+        }
+        return value;
+    }
+
+    /**
+     * Recursively converts arrays to lists, same way as they are converted when keyword rejects arrays
+     */
+    @SuppressWarnings("unchecked") private static Object toLists(Object value) {
+        if (value instanceof Object[]) {
+            final Object[] values = (Object[]) value;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toLists(values[i]);
+            }
+            return Arrays.asList(values);
+        }
+        if (value instanceof Map) {
+            ((Map<String, Object>) value).replaceAll((name, member) -> toLists(member));
+        }
+        return value;
+    }
+
+    private Map<String, Object> readStruct() {
+        final Map<String, Object> members = new HashMap<>();
+        if (startElement(STRUCT)) {
+            return members;
+        }
+        skipWhitespace();
+        while (isStart(MEMBER)) {
+            startElement(MEMBER);
+            skipWhitespace();
+            expectStart(NAME);
+            final String name = readTextUntilEnd(NAME, null);
+            skipWhitespace();
+            members.put(name, readValue(null));
+            skipWhitespace();
+            expectEnd(MEMBER);
+            skipWhitespace();
+        }
+        expectEnd(STRUCT);
+        return members;
+    }
+
+    /**
+     * Reads character data until next markup. ASCII text without references and carriage returns is resolved
+     * against names, or copied at once, other text is decoded and normalized as by XML parser.
+     */
+    private String readText(NameTable names) {
+        final int start = position;
+        boolean plain = true;
+        while (position < end && bytes[position] != '<') {
+            final byte b = bytes[position++];
+            if (b < 0x20 && b >= 0 && b != '\t' && b != '\n' && b != '\r') {
+                throw UNSUPPORTED;
+            }
+            plain &= b >= 0x20 && b != '&' || b == '\t' || b == '\n';
+        }
+        if (position == end) {
+            throw UNSUPPORTED;
+        }
+        if (plain) {
+            final String name = names == null ? null : names.get(bytes, start, position);
+            return name != null ? name : new String(bytes, start, position - start, StandardCharsets.ISO_8859_1);
+        }
+        final String text = decode(start, position);
+        return names == null ? text : names.get(text);
+    }
+
+    private String decode(int start, int stop) {
+        final StringBuilder text = new StringBuilder(stop - start);
+        int run = start;
+        for (int i = start; i < stop; i++) {
+            if (bytes[i] == '&' || bytes[i] == '\r') {
+                text.append(new String(bytes, run, i - run, StandardCharsets.UTF_8));
+                if (bytes[i] == '\r') {
+                    text.append('\n');
+                    if (i + 1 < stop && bytes[i + 1] == '\n') {
+                        i++;
+                    }
+                } else {
+                    final int semicolon = indexOf((byte) ';', i, stop);
+                    appendReference(text, new String(bytes, i + 1, semicolon - i - 1, StandardCharsets.US_ASCII));
+                    i = semicolon;
+                }
+                run = i + 1;
+            }
+        }
+        return text.append(new String(bytes, run, stop - run, StandardCharsets.UTF_8)).toString();
+    }
+
+    private static void appendReference(StringBuilder text, String reference) {
+        switch (reference) {
+            case "lt":
+                text.append('<');
+                break;
+            case "gt":
+                text.append('>');
+                break;
+            case "amp":
+                text.append('&');
+                break;
+            case "quot":
+                text.append('"');
+                break;
+            case "apos":
+                text.append('\'');
+                break;
+            default:
+                if (!reference.startsWith("#") || reference.length() < 2) {
+                    throw UNSUPPORTED;
+                }
+                final int codePoint = reference.charAt(1) == 'x' ?
+                        Integer.parseInt(reference.substring(2), 16) :
+                        Integer.parseInt(reference.substring(1));
+                if (!isXmlCharacter(codePoint)) {
+                    throw UNSUPPORTED;
+                }
+                text.appendCodePoint(codePoint);
+        }
+    }
+
+    private static boolean isXmlCharacter(int codePoint) {
+        return codePoint == '\t' || codePoint == '\n' || codePoint == '\r'
+                || codePoint >= 0x20 && codePoint <= 0xD7FF || codePoint >= 0xE000 && codePoint <= 0xFFFD
+                || codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT;
+    }
+
+    private int indexOf(byte b, int from, int stop) {
+        for (int i = from; i < stop; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        throw UNSUPPORTED;
+    }
+
+    /**
+     * Skips XML declaration, if it declares UTF-8 compatible encoding
+     */
+    private void skipDeclaration() {
+        if (end > 5 && bytes[0] == '<' && bytes[1] == '?') {
+            final int close = indexOf((byte) '>', 2, end);
+            final String declaration = new String(bytes, 0, close, StandardCharsets.US_ASCII);
+            if (!declaration.startsWith("<?xml ") || !declaration.endsWith("?")) {
+                throw UNSUPPORTED;
+            }
+            final int encoding = declaration.indexOf("encoding");
+            if (encoding >= 0) {
+                final String name = declaration.substring(encoding).toUpperCase();
+                if (!name.contains("UTF-8") && !name.contains("US-ASCII")) {
+                    throw UNSUPPORTED;
+                }
+            }
+            position = close + 1;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < end && (bytes[position] == ' ' || bytes[position] == '\n' || bytes[position] == '\r'
+                || bytes[position] == '\t')) {
+            position++;
+        }
+    }
+
+    /**
+     * @param name Name of element
+     * @return If start tag of element without attributes follows
+     */
+    private boolean isStart(byte[] name) {
+        if (position + name.length + 2 > end || bytes[position] != '<') {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (bytes[position + 1 + i] != name[i]) {
+                return false;
+            }
+        }
+        final byte next = bytes[position + 1 + name.length];
+        return next == '>' || next == '/';
+    }
+
+    private void expectStart(byte[] name) {
+        if (startElement(name)) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Consumes start tag of element
+     *
+     * @param name Name of element
+     * @return If element is empty
+     */
+    private boolean startElement(byte[] name) {
+        if (!isStart(name)) {
+            throw UNSUPPORTED;
+        }
+        position += name.length + 1;
+        if (bytes[position] == '/') {
+            if (bytes[position + 1] != '>') {
+                throw UNSUPPORTED;
+            }
+            position += 2;
+            return true;
+        }
+        position++;
+        return false;
+    }
+
+    private void expectEnd(byte[] name) {
+        if (position + name.length + 3 > end || bytes[position] != '<' || bytes[position + 1] != '/') {
+            throw UNSUPPORTED;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (bytes[position + 2 + i] != name[i]) {
+                throw UNSUPPORTED;
+            }
+        }
+        position += name.length + 2;
+        skipWhitespace();
+        if (bytes[position] != '>') {
+            throw UNSUPPORTED;
+        }
+        position++;
+    }
+
+    /**
+     * Signals request that is not supported by this parser, it is thrown without stack trace
+     */
+    private static final class Unsupported extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private Unsupported() {
+            super("Unsupported request", null, false, false);
+        }
+    }
+
+    /**
+     * {@link XmlRpcRequest} parsed from request body
+     */
+    private static final class ParsedRequest implements XmlRpcRequest {
+
+        private final XmlRpcRequestConfig config;
+        private final String methodName;
+        private final Object[] params;
+
+        private ParsedRequest(XmlRpcRequestConfig config, String methodName, Object[] params) {
+            this.config = config;
+            this.methodName = methodName;
+            this.params = params;
+        }
+
+        @Override public XmlRpcRequestConfig getConfig() {
+            return config;
+        }
+
+        @Override public String getMethodName() {
+            return methodName;
+        }
+
+        @Override public int getParameterCount() {
+            return params.length;
+        }
+
+        @Override public Object getParameter(int index) {
+            return params[index];
+        }
+
+        @Override public String toString() {
+            return methodName + Arrays.toString(params);
+        }
+    }
+}
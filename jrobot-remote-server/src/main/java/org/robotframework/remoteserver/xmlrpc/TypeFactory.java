@@ -15,12 +15,23 @@
 package org.robotframework.remoteserver.xmlrpc;
 
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.TimeZone;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -29,34 +40,64 @@ import org.apache.xmlrpc.common.TypeFactoryImpl;
 import org.apache.xmlrpc.common.XmlRpcController;
 import org.apache.xmlrpc.common.XmlRpcStreamConfig;
 import org.apache.xmlrpc.parser.TypeParser;
+import org.apache.xmlrpc.serializer.BigDecimalSerializer;
+import org.apache.xmlrpc.serializer.BigIntegerSerializer;
 import org.apache.xmlrpc.serializer.BooleanSerializer;
 import org.apache.xmlrpc.serializer.ByteArraySerializer;
 import org.apache.xmlrpc.serializer.DoubleSerializer;
 import org.apache.xmlrpc.serializer.I4Serializer;
-import org.apache.xmlrpc.serializer.ListSerializer;
+import org.apache.xmlrpc.serializer.I8Serializer;
 import org.apache.xmlrpc.serializer.MapSerializer;
-import org.apache.xmlrpc.serializer.ObjectArraySerializer;
 import org.apache.xmlrpc.serializer.TypeSerializer;
 import org.robotframework.remoteserver.xmlrpc.serializers.AbstractSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.BinarySerializer;
 import org.robotframework.remoteserver.xmlrpc.serializers.CharArraySerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.DateTimeSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.EnumSerializer;
 import org.robotframework.remoteserver.xmlrpc.serializers.IterableSerializer;
 import org.robotframework.remoteserver.xmlrpc.serializers.NullSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.OptionalSerializer;
 import org.robotframework.remoteserver.xmlrpc.serializers.PojoSerializer;
 import org.robotframework.remoteserver.xmlrpc.serializers.PrimitiveArraySerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.SerializerSource;
 import org.robotframework.remoteserver.xmlrpc.serializers.StringSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.StructSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
+/**
+ * Factory of XML-RPC serializers and parsers. Serializer selection is resolved once per class of serialized
+ * instance, while serializers of containers are shared per stream configuration. Custom serializers are resolved
+ * along class and interface hierarchy, and can be discovered as {@link SerializerSource} implementations. Other
+ * objects are serialized as structs of their properties, or as JSON strings if they have none.
+ */
 public class TypeFactory extends TypeFactoryImpl {
 
+    protected static final Logger LOG = LoggerFactory.getLogger(TypeFactory.class.getName());
+
     private static final TypeSerializer STRING_SERIALIZER = new StringSerializer();
     private static final TypeSerializer I4_SERIALIZER = new I4Serializer();
     private static final TypeSerializer DOUBLE_SERIALIZER = new DoubleSerializer();
     private static final TypeSerializer BOOLEAN_SERIALIZER = new BooleanSerializer();
     private static final TypeSerializer NULL_SERIALIZER = new NullSerializer();
+    private static final TypeSerializer EX_NULL_SERIALIZER = new org.apache.xmlrpc.serializer.NullSerializer();
+    private static final TypeSerializer I8_SERIALIZER = new I8Serializer();
+    private static final TypeSerializer BIG_INTEGER_SERIALIZER = new BigIntegerSerializer();
+    private static final TypeSerializer BIG_DECIMAL_SERIALIZER = new BigDecimalSerializer();
     private static final TypeSerializer CHAR_ARRAY_SERIALIZER = new CharArraySerializer();
-    private static final TypeSerializer POJO_SERIALIZER = new PojoSerializer();
+    private static final TypeSerializer ENUM_SERIALIZER = new EnumSerializer();
+    private static final TypeSerializer BINARY_SERIALIZER = new BinarySerializer();
+    private static final TypeSerializer DATE_TIME_SERIALIZER = new DateTimeSerializer();
     private static final TypeParser BYTE_ARRAY_PARSER = new ByteArrayToStringParser();
-    private final List<AbstractSerializer<?>> serializers = new ArrayList<>();
+    private final List<StdSerializer<?>> jsonSerializers = new ArrayList<>();
+    private final Map<SerializerSource, List<StdSerializer<?>>> sourceSerializers = new IdentityHashMap<>();
+    private final TypeSerializer pojoSerializer = new PojoSerializer(this::getObjectWriter);
+    private volatile Registry registry = new Registry(Collections.emptyList());
+    // Configuration is created for every request, so serializers are shared by extensions, the only value they read
+    private final ContainerSerializers containerSerializers = new ContainerSerializers(false);
+    private final ContainerSerializers extensionSerializers = new ContainerSerializers(true);
+    private volatile int parallelThreshold;
 
     public TypeFactory(XmlRpcController pController) {
         super(pController);
@@ -100,33 +141,116 @@ public class TypeFactory extends TypeFactoryImpl {
 
     @Override public TypeSerializer getSerializer(XmlRpcStreamConfig pConfig, Object pObject) throws SAXException {
         if (Objects.isNull(pObject))
-            return NULL_SERIALIZER;
-        else if (pObject instanceof String)
-            return STRING_SERIALIZER;
-        else if (pObject instanceof Integer || pObject instanceof Short || pObject instanceof Byte)
-            return I4_SERIALIZER;
-        else if (pObject instanceof Boolean)
-            return BOOLEAN_SERIALIZER;
-        else if (pObject instanceof Double || pObject instanceof Float)
-            return DOUBLE_SERIALIZER;
-        else if (pObject instanceof Object[])
-            return new ObjectArraySerializer(this, pConfig);
-        else if (pObject instanceof List)
-            return new ListSerializer(this, pConfig);
-        else if (pObject instanceof Map)
-            return new MapSerializer(this, pConfig);
-        else if (pObject instanceof Iterable)
-            return new IterableSerializer(this, pConfig);
-        else if (pObject instanceof char[])
-            return CHAR_ARRAY_SERIALIZER;
-        else if (pObject.getClass().isArray())
-            return new PrimitiveArraySerializer(TypeFactory.this, pConfig);
-        for (AbstractSerializer<?> serializer : serializers) {
-            if (serializer.canSerialize(pObject.getClass())) {
-                return serializer;
-            }
+            return pConfig.isEnabledForExtensions() ? EX_NULL_SERIALIZER : NULL_SERIALIZER;
+        final Registry current = registry;
+        final Resolution resolution = current.resolutions.get(pObject.getClass());
+        switch (resolution.kind) {
+            case STRING:
+                return STRING_SERIALIZER;
+            case I4:
+                return I4_SERIALIZER;
+            case BOOLEAN:
+                return BOOLEAN_SERIALIZER;
+            case DOUBLE:
+                return DOUBLE_SERIALIZER;
+            case OBJECT_ARRAY:
+                return getContainerSerializers(pConfig).objectArraySerializer;
+            case LIST:
+                return getContainerSerializers(pConfig).listSerializer;
+            case MAP:
+                return getContainerSerializers(pConfig).mapSerializer;
+            case ITERABLE:
+                return getContainerSerializers(pConfig).iterableSerializer;
+            case CHAR_ARRAY:
+                return CHAR_ARRAY_SERIALIZER;
+            case BINARY:
+                return BINARY_SERIALIZER;
+            case PRIMITIVE_ARRAY:
+                return getContainerSerializers(pConfig).primitiveArraySerializer;
+            case CUSTOM:
+                return current.serializers.get(resolution.index);
+            case LONG:
+                return pConfig.isEnabledForExtensions() ? I8_SERIALIZER : STRING_SERIALIZER;
+            case BIG_INTEGER:
+                return pConfig.isEnabledForExtensions() ? BIG_INTEGER_SERIALIZER : STRING_SERIALIZER;
+            case BIG_DECIMAL:
+                return pConfig.isEnabledForExtensions() ? BIG_DECIMAL_SERIALIZER : STRING_SERIALIZER;
+            case DATE_TIME:
+                return DATE_TIME_SERIALIZER;
+            case OPTIONAL:
+                return getContainerSerializers(pConfig).optionalSerializer;
+            case ENUM:
+                return ENUM_SERIALIZER;
+            case STRUCT:
+                return getContainerSerializers(pConfig).structSerializer;
+            default:
+                return pojoSerializer;
         }
-        return POJO_SERIALIZER;
+    }
+
+    /**
+     * Resolves how instances of provided class are serialized by built-in serializers
+     *
+     * @param aClass Class of serialized instances
+     * @return Resolution of {@link TypeSerializer}, or null if class has no built-in serializer
+     */
+    private static Resolution resolveBuiltIn(Class<?> aClass) {
+        if (String.class.equals(aClass))
+            return Resolution.of(Kind.STRING);
+        else if (Integer.class.equals(aClass) || Short.class.equals(aClass) || Byte.class.equals(aClass))
+            return Resolution.of(Kind.I4);
+        else if (Boolean.class.equals(aClass))
+            return Resolution.of(Kind.BOOLEAN);
+        else if (Double.class.equals(aClass) || Float.class.equals(aClass))
+            return Resolution.of(Kind.DOUBLE);
+        else if (BinarySerializer.isSupported(aClass))
+            return Resolution.of(Kind.BINARY);
+        else if (Object[].class.isAssignableFrom(aClass))
+            return Resolution.of(Kind.OBJECT_ARRAY);
+        else if (List.class.isAssignableFrom(aClass))
+            return Resolution.of(Kind.LIST);
+        else if (Map.class.isAssignableFrom(aClass))
+            return Resolution.of(Kind.MAP);
+        else if (Iterable.class.isAssignableFrom(aClass))
+            return Resolution.of(Kind.ITERABLE);
+        else if (char[].class.equals(aClass))
+            return Resolution.of(Kind.CHAR_ARRAY);
+        else if (aClass.isArray())
+            return Resolution.of(Kind.PRIMITIVE_ARRAY);
+        return null;
+    }
+
+    /**
+     * Resolves how instances of provided class are serialized by serializers of common JDK types, that can be
+     * overridden by custom serializers. Numbers exceeding i4 are written as strings, unless extensions are enabled.
+     *
+     * @param aClass Class of serialized instances
+     * @return Resolution of {@link TypeSerializer}, or null if class is not common JDK type
+     */
+    private static Resolution resolveJdk(Class<?> aClass) {
+        if (Long.class.equals(aClass))
+            return Resolution.of(Kind.LONG);
+        else if (BigInteger.class.equals(aClass))
+            return Resolution.of(Kind.BIG_INTEGER);
+        else if (BigDecimal.class.equals(aClass))
+            return Resolution.of(Kind.BIG_DECIMAL);
+        else if (Character.class.equals(aClass))
+            return Resolution.of(Kind.STRING);
+        else if (DateTimeSerializer.isSupported(aClass))
+            return Resolution.of(Kind.DATE_TIME);
+        else if (OptionalSerializer.isSupported(aClass))
+            return Resolution.of(Kind.OPTIONAL);
+        else if (aClass.getName().startsWith("java.time."))
+            return Resolution.of(Kind.STRING);
+        return null;
+    }
+
+    /**
+     * @param pConfig Configuration of serialized stream
+     * @return Serializers of containers shared by configurations with same extensions
+     */
+    private ContainerSerializers getContainerSerializers(XmlRpcStreamConfig pConfig) {
+        return pConfig.isEnabledForExtensions() ? extensionSerializers : containerSerializers;
     }
 
     @Override public TypeParser getParser(XmlRpcStreamConfig pConfig, NamespaceContextImpl pContext, String pURI,
@@ -137,14 +261,274 @@ public class TypeFactory extends TypeFactoryImpl {
         return super.getParser(pConfig, pContext, pURI, pLocalName);
     }
 
-    public <T> void addSerializer(final StdSerializer<T> serializer) {
-        Objects.requireNonNull(serializer);
-        serializers.add(new AbstractSerializer<T>() {
+    /**
+     * Registers custom serializer. Serializer is used for instances of its handled type and all of its subtypes,
+     * that have no built-in serializer, unless more specific custom serializer is registered. From serializers
+     * handling the same type the last registered one is used.
+     *
+     * @param serializer Serializer of instances of its handled type
+     * @param <T>        Type that will be serialized
+     */
+    public synchronized <T> void addSerializer(final StdSerializer<T> serializer) {
+        jsonSerializers.add(Objects.requireNonNull(serializer));
+        registry = new Registry(jsonSerializers);
+    }
+
+    /**
+     * Unregisters custom serializer
+     *
+     * @param serializer Serializer registered by {@link #addSerializer(StdSerializer)}
+     * @return If serializer was registered
+     */
+    public synchronized boolean removeSerializer(final StdSerializer<?> serializer) {
+        final boolean removed = jsonSerializers.removeIf(registered -> registered == serializer);
+        if (removed) {
+            registry = new Registry(jsonSerializers);
+        }
+        return removed;
+    }
+
+    /**
+     * Registers all serializers of provided source. Registered instances are remembered, so they can be removed
+     * even if source returns new instances each time.
+     *
+     * @param source Source of custom serializers
+     */
+    public synchronized void addSerializers(final SerializerSource source) {
+        final List<StdSerializer<?>> serializers = new ArrayList<>(source.getSerializers());
+        serializers.forEach(Objects::requireNonNull);
+        jsonSerializers.addAll(serializers);
+        sourceSerializers.computeIfAbsent(source, s -> new ArrayList<>()).addAll(serializers);
+        registry = new Registry(jsonSerializers);
+    }
+
+    /**
+     * Unregisters all serializers that were registered for provided source
+     *
+     * @param source Source of custom serializers registered by {@link #addSerializers(SerializerSource)}
+     */
+    public synchronized void removeSerializers(final SerializerSource source) {
+        final List<StdSerializer<?>> serializers = sourceSerializers.remove(source);
+        if (serializers == null) {
+            return;
+        }
+        for (StdSerializer<?> serializer : serializers) {
+            for (int i = jsonSerializers.size() - 1; i >= 0; i--) {
+                if (jsonSerializers.get(i) == serializer) {
+                    jsonSerializers.remove(i);
+                    break;
+                }
+            }
+        }
+        registry = new Registry(jsonSerializers);
+    }
 
-            @Override protected JsonSerializer<T> getSerializer() {
-                return serializer;
+    /**
+     * Registers serializers of all {@link SerializerSource} implementations discovered by {@link ServiceLoader}.
+     * Sources that cannot be instantiated are skipped.
+     *
+     * @param classLoader Class loader used for discovery of {@code META-INF/services} entries
+     */
+    public void loadSerializers(final ClassLoader classLoader) {
+        final Iterator<SerializerSource> sources = ServiceLoader.load(SerializerSource.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!sources.hasNext()) {
+                    return;
+                }
+                final SerializerSource source = sources.next();
+                addSerializers(source);
+                LOG.debug("Loaded serializers of {}", source.getClass().getName());
+            } catch (ServiceConfigurationError e) {
+                LOG.warn("Cannot load serializers: {}", e.getMessage(), e);
             }
-        });
+        }
+    }
+
+    /**
+     * Sets minimal number of elements of arrays and collections, that are serialized in parallel chunks
+     *
+     * @param parallelThreshold Minimal number of elements, or 0 if elements are always serialized sequentially,
+     *                          which is default
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold can not be negative: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @return Minimal number of elements of arrays and collections, that are serialized in parallel chunks,
+     * or 0 if elements are always serialized sequentially
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @param aClass Class of serialized instances
+     * @return If instances of provided class are serialized by registered custom serializer
+     */
+    public boolean hasCustomSerializer(Class<?> aClass) {
+        return registry.resolutions.get(aClass).kind == Kind.CUSTOM;
+    }
+
+    /**
+     * @return Writer configured with all registered custom serializers
+     */
+    public ObjectWriter getObjectWriter() {
+        return registry.writer;
+    }
+
+    /**
+     * Kinds of {@link TypeSerializer} selected for classes
+     */
+    private enum Kind {
+        STRING, I4, BOOLEAN, DOUBLE, BINARY, OBJECT_ARRAY, LIST, MAP, ITERABLE, CHAR_ARRAY, PRIMITIVE_ARRAY, CUSTOM,
+        LONG, BIG_INTEGER, BIG_DECIMAL, DATE_TIME, OPTIONAL, ENUM, STRUCT, POJO
+    }
+
+    /**
+     * Immutable snapshot of registered custom serializers, that is replaced on every registration. Resolutions are
+     * cached per class of serialized instance and must not reference {@link TypeFactory}, so snapshot is static.
+     */
+    private static final class Registry {
+
+        private final List<StdSerializer<?>> jsonSerializers;
+        private final List<TypeSerializer> serializers;
+        private final ObjectWriter writer;
+        private final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+
+            @Override protected Resolution computeValue(Class<?> type) {
+                final Resolution resolution = resolveBuiltIn(type);
+                return resolution == null ? resolveCustom(type) : resolution;
+            }
+        };
+
+        private Registry(List<StdSerializer<?>> jsonSerializers) {
+            this.jsonSerializers = Collections.unmodifiableList(new ArrayList<>(jsonSerializers));
+            final SimpleModule module = new SimpleModule();
+            this.jsonSerializers.forEach(serializer -> addSerializer(module, serializer));
+            this.writer = new ObjectMapper().registerModule(module).writer();
+            final List<TypeSerializer> typeSerializers = new ArrayList<>(this.jsonSerializers.size());
+            this.jsonSerializers.forEach(serializer -> typeSerializers.add(newSerializer(serializer, writer)));
+            this.serializers = Collections.unmodifiableList(typeSerializers);
+        }
+
+        private static <T> void addSerializer(SimpleModule module, StdSerializer<T> serializer) {
+            module.addSerializer(serializer);
+        }
+
+        private static <T> TypeSerializer newSerializer(final StdSerializer<T> serializer, ObjectWriter writer) {
+            final ObjectWriter typedWriter = writer.forType(serializer.handledType());
+            return new AbstractSerializer<T>() {
+
+                @Override protected JsonSerializer<T> getSerializer() {
+                    return serializer;
+                }
+
+                @Override protected ObjectWriter getWriter() {
+                    return typedWriter;
+                }
+            };
+        }
+
+        /**
+         * Resolves the most specific custom serializer along class and interface hierarchy of provided class
+         *
+         * @param aClass Class of serialized instances
+         * @return Resolution of custom serializer, or of JDK type, enum, struct or POJO serializer if there is none
+         */
+        private Resolution resolveCustom(Class<?> aClass) {
+            int best = -1;
+            Class<?> bestType = null;
+            for (int i = jsonSerializers.size() - 1; i >= 0; i--) {
+                final Class<?> type = jsonSerializers.get(i).handledType();
+                if (type != null && type.isAssignableFrom(aClass) && (bestType == null || (type != bestType
+                        && bestType.isAssignableFrom(type)))) {
+                    best = i;
+                    bestType = type;
+                }
+            }
+            if (best >= 0)
+                return new Resolution(Kind.CUSTOM, best);
+            final Resolution resolution = resolveJdk(aClass);
+            if (resolution != null)
+                return resolution;
+            else if (Enum.class.isAssignableFrom(aClass))
+                return Resolution.of(Kind.ENUM);
+            else if (StructSerializer.isSupported(aClass))
+                return Resolution.of(Kind.STRUCT);
+            return Resolution.of(Kind.POJO);
+        }
+    }
+
+    /**
+     * Resolution of {@link TypeSerializer} cached for class. It must not reference {@link TypeFactory},
+     * otherwise cached values would keep the factory reachable from resolved classes.
+     */
+    private static final class Resolution {
+
+        private static final Resolution[] RESOLUTIONS = Arrays.stream(Kind.values()).map(kind -> new Resolution(kind,
+                -1)).toArray(Resolution[]::new);
+        private final Kind kind;
+        private final int index;
+
+        private Resolution(Kind kind, int index) {
+            this.kind = kind;
+            this.index = index;
+        }
+
+        private static Resolution of(Kind kind) {
+            return RESOLUTIONS[kind.ordinal()];
+        }
+    }
+
+    /**
+     * Serializers of containers, that are stateless apart of extensions of stream configuration and can be shared
+     * by requests with the same extensions
+     */
+    private final class ContainerSerializers {
+
+        private final TypeSerializer objectArraySerializer, listSerializer, mapSerializer, iterableSerializer,
+                primitiveArraySerializer, structSerializer, optionalSerializer;
+
+        private ContainerSerializers(boolean extensions) {
+            final XmlRpcStreamConfig config = new SharedConfig(extensions);
+            this.iterableSerializer = new IterableSerializer(TypeFactory.this, config,
+                    TypeFactory.this::getParallelThreshold);
+            this.objectArraySerializer = iterableSerializer;
+            this.listSerializer = iterableSerializer;
+            this.mapSerializer = new MapSerializer(TypeFactory.this, config);
+            this.primitiveArraySerializer = new PrimitiveArraySerializer(TypeFactory.this, config);
+            this.structSerializer = new StructSerializer(TypeFactory.this, config);
+            this.optionalSerializer = new OptionalSerializer(TypeFactory.this, config);
+        }
+    }
+
+    /**
+     * Immutable configuration of shared serializers, holding only extensions, as serializers read no other value
+     */
+    private static final class SharedConfig implements XmlRpcStreamConfig {
+
+        private final boolean extensions;
+
+        private SharedConfig(boolean extensions) {
+            this.extensions = extensions;
+        }
+
+        @Override public String getEncoding() {
+            return UTF8_ENCODING;
+        }
+
+        @Override public boolean isEnabledForExtensions() {
+            return extensions;
+        }
+
+        @Override public TimeZone getTimeZone() {
+            return TimeZone.getDefault();
+        }
     }
 
 }
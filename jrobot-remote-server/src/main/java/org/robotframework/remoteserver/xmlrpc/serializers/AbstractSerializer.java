@@ -3,6 +3,7 @@ package org.robotframework.remoteserver.xmlrpc.serializers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.apache.xmlrpc.serializer.TypeSerializer;
 import org.apache.xmlrpc.serializer.TypeSerializerImpl;
@@ -14,27 +15,34 @@ import org.xml.sax.SAXException;
 abstract public class AbstractSerializer<T> extends TypeSerializerImpl implements TypeSerializer {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractSerializer.class.getName());
-    private final ObjectMapper mapper = new ObjectMapper();
-
-    protected AbstractSerializer() {
-        mapper.registerModule(new SimpleModule().addSerializer(getSerializer()));
-    }
+    private volatile ObjectWriter writer;
 
     protected abstract JsonSerializer<T> getSerializer();
 
+    /**
+     * @return Thread-safe writer able to serialize handled type, by default configured only with
+     * {@link #getSerializer()}
+     */
+    protected ObjectWriter getWriter() {
+        ObjectWriter current = writer;
+        if (current == null) {
+            current = new ObjectMapper().registerModule(new SimpleModule().addSerializer(getSerializer())).writer();
+            writer = current;
+        }
+        return current;
+    }
+
     public boolean canSerialize(Class<?> aClass) {
-        return mapper.canSerialize(aClass) && getSerializer().handledType().equals(aClass);
+        return getSerializer().handledType().isAssignableFrom(aClass);
     }
 
-    @Override public synchronized void write(ContentHandler pHandler, Object pObject) throws SAXException {
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
         String value;
-        synchronized (mapper) {
-            try {
-                value = mapper.writeValueAsString(pObject);
-            } catch (JsonProcessingException e) {
-                LOG.error("Cannot serialize {} {}", pHandler, pObject, e);
-                throw new RuntimeException(String.format("Cannot serialize data %s", pObject), e);
-            }
+        try {
+            value = getWriter().writeValueAsString(pObject);
+        } catch (JsonProcessingException e) {
+            LOG.error("Cannot serialize {} {}", pHandler, pObject, e);
+            throw new RuntimeException(String.format("Cannot serialize data %s", pObject), e);
         }
         write(pHandler, VALUE_TAG, value);
     }
@@ -0,0 +1,95 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.ws.commons.util.Base64;
+import org.apache.ws.commons.util.Base64.Encoder;
+import org.apache.xmlrpc.serializer.ByteArraySerializer;
+import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializes {@code byte[]}, {@link ByteBuffer}, {@link InputStream} and content of file denoted by {@link Path}
+ * as {@value ByteArraySerializer#BASE_64_TAG} value. Data are encoded in bounded chunks directly to the handler,
+ * so content of streams and files is never held in memory at once. Streams are closed once they are written. Files
+ * are opened before anything is written, so missing files and directories fail before the value is started.
+ */
+public class BinarySerializer extends TypeSerializerImpl {
+
+    private static final int CHAR_BUFFER_SIZE = 1024;
+    private static final int BYTE_BUFFER_SIZE = 8192;
+
+    /**
+     * @param aClass Class of serialized instances
+     * @return If instances of class are serialized by {@link BinarySerializer}
+     */
+    public static boolean isSupported(Class<?> aClass) {
+        return byte[].class.equals(aClass) || ByteBuffer.class.isAssignableFrom(aClass)
+                || InputStream.class.isAssignableFrom(aClass) || Path.class.isAssignableFrom(aClass);
+    }
+
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
+        if (pObject instanceof Path) {
+            try (InputStream stream = open((Path) pObject)) {
+                write(pHandler, stream);
+            } catch (IOException e) {
+                throw new SAXException(e);
+            }
+            return;
+        }
+        pHandler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+        pHandler.startElement("", ByteArraySerializer.BASE_64_TAG, ByteArraySerializer.BASE_64_TAG, ZERO_ATTRIBUTES);
+        final Encoder encoder = new Base64.SAXEncoder(new char[CHAR_BUFFER_SIZE], 0, null, pHandler);
+        try {
+            if (pObject instanceof byte[]) {
+                final byte[] bytes = (byte[]) pObject;
+                encoder.write(bytes, 0, bytes.length);
+            } else if (pObject instanceof ByteBuffer) {
+                write(encoder, ((ByteBuffer) pObject).duplicate());
+            } else if (pObject instanceof InputStream) {
+                try (InputStream stream = (InputStream) pObject) {
+                    write(encoder, stream);
+                }
+            }
+            encoder.flush();
+        } catch (Base64.SAXIOException e) {
+            throw e.getSAXException();
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+        pHandler.endElement("", ByteArraySerializer.BASE_64_TAG, ByteArraySerializer.BASE_64_TAG);
+        pHandler.endElement("", VALUE_TAG, VALUE_TAG);
+    }
+
+    private static InputStream open(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            throw new IOException(String.format("File %s does not exist or is not a regular file", path));
+        }
+        return Files.newInputStream(path);
+    }
+
+    private static void write(Encoder encoder, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            encoder.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            return;
+        }
+        final byte[] chunk = new byte[Math.min(BYTE_BUFFER_SIZE, buffer.remaining())];
+        while (buffer.hasRemaining()) {
+            final int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            encoder.write(chunk, 0, length);
+        }
+    }
+
+    private static void write(Encoder encoder, InputStream stream) throws IOException {
+        final byte[] chunk = new byte[BYTE_BUFFER_SIZE];
+        int length;
+        while ((length = stream.read(chunk)) >= 0) {
+            encoder.write(chunk, 0, length);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Date;
+import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializes {@link Date}, {@link Calendar} and date-time types of {@code java.time} as ISO-8601 strings, that keep
+ * fraction of second and offset, so values are not truncated to seconds of server time zone as
+ * {@code dateTime.iso8601} values would be. {@link Date} and {@link Instant} are written in UTC, {@link Calendar}
+ * with offset of its time zone, {@link ZonedDateTime} with its zone and {@link LocalDateTime} without offset.
+ */
+public class DateTimeSerializer extends TypeSerializerImpl {
+
+    /**
+     * @param aClass Class of serialized instances
+     * @return If instances of class are serialized by {@link DateTimeSerializer}
+     */
+    public static boolean isSupported(Class<?> aClass) {
+        return Date.class.isAssignableFrom(aClass) || Calendar.class.isAssignableFrom(aClass)
+                || Instant.class.equals(aClass) || OffsetDateTime.class.equals(aClass)
+                || ZonedDateTime.class.equals(aClass) || LocalDateTime.class.equals(aClass);
+    }
+
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
+        write(pHandler, null, format(pObject));
+    }
+
+    private static String format(Object pObject) {
+        if (pObject instanceof Date)
+            return Instant.ofEpochMilli(((Date) pObject).getTime()).toString();
+        else if (pObject instanceof Calendar) {
+            final Calendar calendar = (Calendar) pObject;
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(ZonedDateTime
+                    .ofInstant(Instant.ofEpochMilli(calendar.getTimeInMillis()), calendar.getTimeZone().toZoneId()));
+        } else if (pObject instanceof OffsetDateTime)
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((OffsetDateTime) pObject);
+        else if (pObject instanceof ZonedDateTime)
+            return DateTimeFormatter.ISO_ZONED_DATE_TIME.format((ZonedDateTime) pObject);
+        else if (pObject instanceof LocalDateTime)
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) pObject);
+        return pObject.toString();
+    }
+}
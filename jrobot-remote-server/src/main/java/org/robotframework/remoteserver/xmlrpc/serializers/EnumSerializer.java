@@ -0,0 +1,14 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializes enum constants as strings containing their names.
+ */
+public class EnumSerializer extends StringSerializer {
+
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
+        super.write(pHandler, ((Enum<?>) pObject).name());
+    }
+}
@@ -14,22 +14,157 @@
  */
 package org.robotframework.remoteserver.xmlrpc.serializers;
 
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+import org.apache.ws.commons.serialize.XMLWriter;
+import org.apache.ws.commons.serialize.XMLWriterImpl;
 import org.apache.xmlrpc.common.TypeFactory;
 import org.apache.xmlrpc.common.XmlRpcStreamConfig;
 import org.apache.xmlrpc.serializer.ObjectArraySerializer;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
+/**
+ * Serializes arrays, lists and other iterables as XML-RPC arrays. Arrays and collections having at least
+ * parallel threshold elements are split into chunks, that are serialized to text concurrently on common
+ * {@link ForkJoinPool} and written to the XML writer in order. First chunk is serialized on the calling thread
+ * and number of chunks held in memory at once is bounded. Chunks see structs being written by the calling thread,
+ * so cyclic references are written same as sequentially. Handlers that are not {@link XMLWriter}s and elements
+ * written on {@link ForkJoinPool} threads, that would block waiting for nested chunks, are written sequentially.
+ */
 public class IterableSerializer extends ObjectArraySerializer {
 
+    private static final int MIN_CHUNK_SIZE = 256;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final char[] EMPTY = new char[0];
+
+    private final IntSupplier parallelThreshold;
+
     public IterableSerializer(TypeFactory pTypeFactory, XmlRpcStreamConfig pConfig) {
+        this(pTypeFactory, pConfig, () -> 0);
+    }
+
+    /**
+     * @param pTypeFactory      The factory being used for creating serializers of elements.
+     * @param pConfig           The configuration being used for creating serializers.
+     * @param parallelThreshold Supplies minimal number of elements serialized in parallel, or 0 if elements are
+     *                          always serialized sequentially
+     */
+    public IterableSerializer(TypeFactory pTypeFactory, XmlRpcStreamConfig pConfig, IntSupplier parallelThreshold) {
         super(pTypeFactory, pConfig);
+        this.parallelThreshold = parallelThreshold;
     }
 
     @Override protected void writeData(ContentHandler pHandler, Object pObject) throws SAXException {
-        Iterable<?> obj = (Iterable<?>) pObject;
-        for (Object anObj : obj) {
-            writeObject(pHandler, anObj);
+        final int threshold = parallelThreshold.getAsInt();
+        if (threshold > 0 && pHandler instanceof XMLWriter && !ForkJoinTask.inForkJoinPool()
+                && size(pObject) >= threshold) {
+            writeParallel((XMLWriter) pHandler, asList(pObject));
+        } else if (pObject instanceof Object[]) {
+            for (Object anObj : (Object[]) pObject) {
+                writeObject(pHandler, anObj);
+            }
+        } else {
+            for (Object anObj : (Iterable<?>) pObject) {
+                writeObject(pHandler, anObj);
+            }
+        }
+    }
+
+    private static int size(Object pObject) {
+        if (pObject instanceof Object[]) {
+            return ((Object[]) pObject).length;
+        }
+        return pObject instanceof Collection ? ((Collection<?>) pObject).size() : -1;
+    }
+
+    private static List<?> asList(Object pObject) {
+        if (pObject instanceof Object[]) {
+            return Arrays.asList((Object[]) pObject);
+        }
+        return pObject instanceof List && pObject instanceof RandomAccess ? (List<?>) pObject :
+                Arrays.asList(((Collection<?>) pObject).toArray());
+    }
+
+    private void writeParallel(XMLWriter pHandler, List<?> elements) throws SAXException {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int size = elements.size(), chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+        final String encoding = pHandler.getEncoding();
+        final boolean indenting = pHandler.isIndenting();
+        final Set<Object> written = StructSerializer.getWritten();
+        final Deque<Future<CharArrayWriter>> pending = new ArrayDeque<>();
+        int next = Math.min(chunkSize, size);
+        try {
+            while (pending.size() < pool.getParallelism() * 2 && next < size) {
+                final int end = Math.min(next + chunkSize, size);
+                pending.add(submit(pool, elements.subList(next, end), encoding, indenting, written));
+                next = end;
+            }
+            for (Object anObj : elements.subList(0, Math.min(chunkSize, size))) {
+                writeObject(pHandler, anObj);
+            }
+            while (!pending.isEmpty()) {
+                final CharArrayWriter serialized = pending.removeFirst().get();
+                if (next < size) {
+                    final int end = Math.min(next + chunkSize, size);
+                    pending.add(submit(pool, elements.subList(next, end), encoding, indenting, written));
+                    next = end;
+                }
+                // Closes pending start tag, so serialized elements can be written directly
+                pHandler.characters(EMPTY, 0, 0);
+                serialized.writeTo(pHandler.getWriter());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SAXException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof SAXException ? (SAXException) e.getCause() :
+                    new SAXException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (IOException e) {
+            throw new SAXException(e);
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Future<CharArrayWriter> submit(ForkJoinPool pool, List<?> chunk, String encoding, boolean indenting,
+            Set<Object> written) {
+        return pool.submit(() -> {
+            final Set<Object> previous = StructSerializer.getWritten();
+            StructSerializer.setWritten(written);
+            try {
+                return serialize(chunk, encoding, indenting);
+            } finally {
+                StructSerializer.setWritten(previous);
+            }
+        });
+    }
+
+    private CharArrayWriter serialize(List<?> chunk, String encoding, boolean indenting) throws SAXException {
+        final CharArrayWriter serialized = new CharArrayWriter();
+        final XMLWriter writer = new XMLWriterImpl();
+        writer.setEncoding(encoding);
+        writer.setIndenting(indenting);
+        writer.setDeclarating(false);
+        writer.setWriter(serialized);
+        writer.startDocument();
+        for (Object anObj : chunk) {
+            writeObject(writer, anObj);
         }
+        writer.endDocument();
+        return serialized;
     }
 }
@@ -0,0 +1,57 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import org.apache.xmlrpc.common.TypeFactory;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializes present value of {@link Optional} and its primitive variants, as if it was serialized directly.
+ * Empty optional is serialized as null.
+ */
+public class OptionalSerializer extends TypeSerializerImpl {
+
+    private final TypeFactory typeFactory;
+    private final XmlRpcStreamConfig config;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pTypeFactory The factory being used for creating serializers of present values.
+     * @param pConfig      The configuration being used for creating serializers.
+     */
+    public OptionalSerializer(TypeFactory pTypeFactory, XmlRpcStreamConfig pConfig) {
+        this.typeFactory = pTypeFactory;
+        this.config = pConfig;
+    }
+
+    /**
+     * @param aClass Class of serialized instances
+     * @return If instances of class are serialized by {@link OptionalSerializer}
+     */
+    public static boolean isSupported(Class<?> aClass) {
+        return Optional.class.equals(aClass) || OptionalInt.class.equals(aClass) || OptionalLong.class.equals(aClass)
+                || OptionalDouble.class.equals(aClass);
+    }
+
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
+        final Object value = getValue(pObject);
+        typeFactory.getSerializer(config, value).write(pHandler, value);
+    }
+
+    private static Object getValue(Object pObject) {
+        if (pObject instanceof Optional)
+            return ((Optional<?>) pObject).orElse(null);
+        else if (pObject instanceof OptionalInt)
+            return ((OptionalInt) pObject).isPresent() ? ((OptionalInt) pObject).getAsInt() : null;
+        else if (pObject instanceof OptionalLong)
+            return ((OptionalLong) pObject).isPresent() ? ((OptionalLong) pObject).getAsLong() : null;
+        final OptionalDouble optional = (OptionalDouble) pObject;
+        return optional.isPresent() ? optional.getAsDouble() : null;
+    }
+}
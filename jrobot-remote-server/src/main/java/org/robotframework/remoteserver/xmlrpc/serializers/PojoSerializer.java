@@ -2,22 +2,39 @@ package org.robotframework.remoteserver.xmlrpc.serializers;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.Objects;
+import java.util.function.Supplier;
 import org.apache.xmlrpc.serializer.TypeSerializerImpl;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
+/**
+ * Serializes instances without dedicated serializer as JSON strings, or as result of {@link Object#toString()}
+ * if they cannot be serialized by Jackson.
+ */
 public class PojoSerializer extends TypeSerializerImpl {
 
-    private final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectWriter DEFAULT_WRITER = new ObjectMapper().writer();
+    private final Supplier<ObjectWriter> writer;
 
-    @Override public synchronized void write(ContentHandler pHandler, Object pObject) throws SAXException {
+    public PojoSerializer() {
+        this(() -> DEFAULT_WRITER);
+    }
+
+    /**
+     * @param writer Supplies thread-safe writer used for serialization
+     */
+    public PojoSerializer(Supplier<ObjectWriter> writer) {
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
         String value;
-        synchronized (mapper) {
-            try {
-                value = mapper.writeValueAsString(pObject);
-            } catch (JsonProcessingException e) {
-                value = pObject.toString();
-            }
+        try {
+            value = writer.get().writeValueAsString(pObject);
+        } catch (JsonProcessingException e) {
+            value = pObject.toString();
         }
         write(pHandler, VALUE_TAG, value);
     }
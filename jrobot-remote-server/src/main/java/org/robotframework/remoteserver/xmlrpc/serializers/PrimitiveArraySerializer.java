@@ -15,17 +15,28 @@
 package org.robotframework.remoteserver.xmlrpc.serializers;
 
 import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.BooleanSerializer;
+import org.apache.xmlrpc.serializer.DoubleSerializer;
+import org.apache.xmlrpc.serializer.I4Serializer;
+import org.apache.xmlrpc.serializer.I8Serializer;
 import org.apache.xmlrpc.serializer.ObjectArraySerializer;
+import org.apache.xmlrpc.serializer.XmlRpcWriter;
+import org.robotframework.remoteserver.xmlrpc.TypeFactory;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
-import static org.robotframework.remoteserver.xmlrpc.TypeFactory.toObject;
-
 /**
- * A {@link org.apache.xmlrpc.serializer.TypeSerializer} for primitive array elements.
+ * A {@link org.apache.xmlrpc.serializer.TypeSerializer} for primitive array elements. Elements are written directly
+ * from the array, without boxing and without lookup of serializer per element. Elements are written the same way as
+ * their boxed values would be, so {@code long} elements are strings unless extensions are enabled, or are written
+ * by custom serializer of {@link Long} if there is one.
  */
 public class PrimitiveArraySerializer extends ObjectArraySerializer {
 
+    private static final char[] TRUE = {'1'}, FALSE = {'0'};
+    private final org.apache.xmlrpc.common.TypeFactory typeFactory;
+    private final XmlRpcStreamConfig config;
+
     /**
      * Creates a new instance.
      *
@@ -34,24 +45,112 @@ public class PrimitiveArraySerializer extends ObjectArraySerializer {
      */
     public PrimitiveArraySerializer(org.apache.xmlrpc.common.TypeFactory pTypeFactory, XmlRpcStreamConfig pConfig) {
         super(pTypeFactory, pConfig);
+        this.typeFactory = pTypeFactory;
+        this.config = pConfig;
     }
 
     @Override protected void writeData(ContentHandler pHandler, Object pObject1) throws SAXException {
-        Object[] array = new Object[0];
-        if (pObject1 instanceof byte[])
-            array = toObject((byte[]) pObject1);
-        else if (pObject1 instanceof short[])
-            array = toObject((short[]) pObject1);
-        else if (pObject1 instanceof int[])
-            array = toObject((int[]) pObject1);
-        else if (pObject1 instanceof long[])
-            array = toObject((long[]) pObject1);
-        else if (pObject1 instanceof float[])
-            array = toObject((float[]) pObject1);
-        else if (pObject1 instanceof double[])
-            array = toObject((double[]) pObject1);
-        else if (pObject1 instanceof boolean[])
-            array = toObject((boolean[]) pObject1);
-        super.writeData(pHandler, array);
+        final char[] buffer = new char[32];
+        if (pObject1 instanceof byte[]) {
+            for (byte value : (byte[]) pObject1) {
+                writeInteger(pHandler, value, buffer);
+            }
+        } else if (pObject1 instanceof short[]) {
+            for (short value : (short[]) pObject1) {
+                writeInteger(pHandler, value, buffer);
+            }
+        } else if (pObject1 instanceof int[]) {
+            for (int value : (int[]) pObject1) {
+                writeInteger(pHandler, value, buffer);
+            }
+        } else if (pObject1 instanceof long[] && typeFactory instanceof TypeFactory
+                && ((TypeFactory) typeFactory).hasCustomSerializer(Long.class)) {
+            for (long value : (long[]) pObject1) {
+                writeObject(pHandler, value);
+            }
+        } else if (pObject1 instanceof long[]) {
+            final boolean extensions = config.isEnabledForExtensions();
+            for (long value : (long[]) pObject1) {
+                final int start = format(value, buffer);
+                if (extensions) {
+                    writeValue(pHandler, XmlRpcWriter.EXTENSIONS_URI, I8Serializer.I8_TAG, I8Serializer.EX_I8_TAG,
+                            buffer, start);
+                } else {
+                    writeValue(pHandler, "", null, null, buffer, start);
+                }
+            }
+        } else if (pObject1 instanceof float[]) {
+            for (float value : (float[]) pObject1) {
+                writeDouble(pHandler, Float.toString(value), buffer);
+            }
+        } else if (pObject1 instanceof double[]) {
+            for (double value : (double[]) pObject1) {
+                writeDouble(pHandler, Double.toString(value), buffer);
+            }
+        } else if (pObject1 instanceof boolean[]) {
+            for (boolean value : (boolean[]) pObject1) {
+                final char[] chars = value ? TRUE : FALSE;
+                writeValue(pHandler, "", BooleanSerializer.BOOLEAN_TAG, BooleanSerializer.BOOLEAN_TAG, chars, 0);
+            }
+        }
+    }
+
+    private static void writeInteger(ContentHandler pHandler, int value, char[] buffer) throws SAXException {
+        writeValue(pHandler, "", I4Serializer.I4_TAG, I4Serializer.I4_TAG, buffer, format(value, buffer));
+    }
+
+    private static void writeDouble(ContentHandler pHandler, String value, char[] buffer) throws SAXException {
+        value.getChars(0, value.length(), buffer, buffer.length - value.length());
+        writeValue(pHandler, "", DoubleSerializer.DOUBLE_TAG, DoubleSerializer.DOUBLE_TAG, buffer,
+                buffer.length - value.length());
+    }
+
+    /**
+     * Writes element value, whose characters are stored at the end of buffer
+     *
+     * @param pHandler   Handler receiving the value
+     * @param pURI       Namespace of type tag
+     * @param pLocalName Local name of type tag, or null if value has no type tag
+     * @param pQName     Qualified name of type tag
+     * @param pBuffer    Buffer containing characters of value
+     * @param pStart     Index of first character of value
+     * @throws SAXException If handler fails
+     */
+    private static void writeValue(ContentHandler pHandler, String pURI, String pLocalName, String pQName,
+            char[] pBuffer, int pStart) throws SAXException {
+        pHandler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+        if (pLocalName != null) {
+            pHandler.startElement(pURI, pLocalName, pQName, ZERO_ATTRIBUTES);
+        }
+        pHandler.characters(pBuffer, pStart, pBuffer.length - pStart);
+        if (pLocalName != null) {
+            pHandler.endElement(pURI, pLocalName, pQName);
+        }
+        pHandler.endElement("", VALUE_TAG, VALUE_TAG);
+    }
+
+    /**
+     * Formats decimal representation of value at the end of buffer
+     *
+     * @param value  Formatted value
+     * @param buffer Buffer receiving characters
+     * @return Index of first character of value
+     */
+    private static int format(long value, char[] buffer) {
+        if (value == Long.MIN_VALUE) {
+            final String min = Long.toString(value);
+            min.getChars(0, min.length(), buffer, buffer.length - min.length());
+            return buffer.length - min.length();
+        }
+        long remaining = Math.abs(value);
+        int position = buffer.length;
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--position] = '-';
+        }
+        return position;
     }
 }
@@ -0,0 +1,16 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.util.Collection;
+
+/**
+ * Source of custom serializers, that is discovered by {@link java.util.ServiceLoader} through
+ * {@code META-INF/services}, or bound as OSGi service to remote server running in Karaf.
+ */
+public interface SerializerSource {
+
+    /**
+     * @return Serializers, each responsible for serialization of its handled type and all of its subtypes
+     */
+    Collection<StdSerializer<?>> getSerializers();
+}
@@ -15,48 +15,111 @@
 package org.robotframework.remoteserver.xmlrpc.serializers;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import org.apache.ws.commons.util.Base64;
 import org.apache.ws.commons.util.Base64.Encoder;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
 /**
- * A {@link org.apache.xmlrpc.serializer.TypeSerializer} for strings.
+ * A {@link org.apache.xmlrpc.serializer.TypeSerializer} for strings. Strings containing control characters, that are
+ * not allowed in XML, are written as base64 of their UTF-8 bytes. Both plain and encoded strings are written in
+ * bounded chunks, so long strings are never copied as a whole.
  */
 public class StringSerializer extends org.apache.xmlrpc.serializer.StringSerializer {
 
     public static final String BASE_64_TAG = "base64";
-    private static final Pattern pattern = Pattern.compile("[\\x00-\\x08\\x0B\\x0C\\x0E-\\x1F]");
+    private static final int CHUNK_SIZE = 1024;
+    private static final int MAX_BYTES_PER_CHAR = 3;
 
     public void write(ContentHandler pHandler, Object pObject) throws SAXException {
-        String value = pObject.toString();
-        if (pattern.matcher(value).find()) {
-            pHandler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+        final String value = pObject.toString();
+        pHandler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+        if (hasControlCharacter(value)) {
             pHandler.startElement("", BASE_64_TAG, BASE_64_TAG, ZERO_ATTRIBUTES);
-            try {
-                byte[] buffer = value.getBytes("UTF-8");
-                if (buffer.length > 0) {
-                    char[] charBuffer = new char[buffer.length >= 1024 ? 1024 : ((buffer.length + 3) / 4) * 4];
-                    Encoder encoder = new Base64.SAXEncoder(charBuffer, 0, null, pHandler);
-                    try {
-                        encoder.write(buffer, 0, buffer.length);
-                        encoder.flush();
-                    } catch (Base64.SAXIOException e) {
-                        throw e.getSAXException();
-                    } catch (IOException e) {
-                        throw new SAXException(e);
-                    }
-                }
-                pHandler.endElement("", BASE_64_TAG, BASE_64_TAG);
-                pHandler.endElement("", VALUE_TAG, VALUE_TAG);
-            } catch (UnsupportedEncodingException e1) {
-                throw new SAXException(e1);
-            }
+            writeBase64(pHandler, value);
+            pHandler.endElement("", BASE_64_TAG, BASE_64_TAG);
         } else {
-            super.write(pHandler, null, value);
+            writeCharacters(pHandler, value);
+        }
+        pHandler.endElement("", VALUE_TAG, VALUE_TAG);
+    }
+
+    /**
+     * @param value Checked string
+     * @return If string contains character lower than space, other than tab, line feed or carriage return
+     */
+    public static boolean hasControlCharacter(String value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x20 && c != '\t' && c != '\n' && c != '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeCharacters(ContentHandler pHandler, String value) throws SAXException {
+        final int length = value.length();
+        final char[] chunk = new char[Math.min(length, CHUNK_SIZE)];
+        for (int offset = 0; offset < length; offset += chunk.length) {
+            final int count = Math.min(chunk.length, length - offset);
+            value.getChars(offset, offset + count, chunk, 0);
+            pHandler.characters(chunk, 0, count);
         }
     }
 
+    /**
+     * Encodes chunks of string to UTF-8 and passes them to base64 encoder. Surrogate pair split by chunk boundary is
+     * kept in char buffer until next chunk is read, while unpaired surrogates are replaced same way as by
+     * {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private static void writeBase64(ContentHandler pHandler, String value) throws SAXException {
+        final int length = value.length();
+        final CharBuffer chars = CharBuffer.allocate(Math.min(length, CHUNK_SIZE));
+        final ByteBuffer bytes = ByteBuffer.allocate(chars.capacity() * MAX_BYTES_PER_CHAR);
+        final CharsetEncoder utf8 = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final Encoder encoder = new Base64.SAXEncoder(new char[getBase64BufferSize(value)], 0, null, pHandler);
+        try {
+            int offset = 0;
+            while (offset < length || chars.position() > 0) {
+                final int count = Math.min(chars.remaining(), length - offset);
+                value.getChars(offset, offset + count, chars.array(), chars.position());
+                chars.position(chars.position() + count);
+                offset += count;
+                chars.flip();
+                utf8.encode(chars, bytes, offset == length);
+                chars.compact();
+                encoder.write(bytes.array(), 0, bytes.position());
+                bytes.clear();
+            }
+            utf8.flush(bytes);
+            encoder.write(bytes.array(), 0, bytes.position());
+            encoder.flush();
+        } catch (Base64.SAXIOException e) {
+            throw e.getSAXException();
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @param value Encoded string
+     * @return Size of buffer for base64 characters, that is length of encoded string unless it exceeds chunk size
+     */
+    private static int getBase64BufferSize(String value) {
+        final int maxBytes = CHUNK_SIZE / 4 * 3;
+        int bytes = 0;
+        for (int i = 0, length = value.length(); i < length && bytes < maxBytes; i++) {
+            final char c = value.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : MAX_BYTES_PER_CHAR;
+        }
+        return Math.min(CHUNK_SIZE, (bytes + 2) / 3 * 4);
+    }
 }
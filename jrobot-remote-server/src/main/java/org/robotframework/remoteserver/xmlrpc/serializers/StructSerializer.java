@@ -0,0 +1,224 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.apache.xmlrpc.common.TypeFactory;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.MapSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializes POJOs and records as XML-RPC structs, whose members are values of their properties. Properties are
+ * introspected once per class, POJO properties as Jackson would serialize the bean, record properties as its
+ * components, and read through cached {@link MethodHandle}s. Classes that Jackson does not serialize as beans
+ * are not supported. Instances referenced again while they are being written, like parent referenced by its child,
+ * are written as their string representation, so cyclic object graphs do not recurse infinitely.
+ */
+public class StructSerializer extends MapSerializer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(StructSerializer.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final Method IS_RECORD = findMethod(Class.class, "isRecord");
+    private static final Method GET_RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+    // Instances being written by the calling thread, it is removed once outermost instance is written
+    private static final ThreadLocal<Set<Object>> WRITTEN =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final ClassValue<StructType> STRUCT_TYPES = new ClassValue<StructType>() {
+
+        @Override protected StructType computeValue(Class<?> type) {
+            return StructType.of(type);
+        }
+    };
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pTypeFactory The factory being used for creating serializers of property values.
+     * @param pConfig      The configuration being used for creating serializers.
+     */
+    public StructSerializer(TypeFactory pTypeFactory, XmlRpcStreamConfig pConfig) {
+        super(pTypeFactory, pConfig);
+    }
+
+    /**
+     * @param aClass Class of serialized instances
+     * @return If instances of class have readable properties and can be serialized as struct
+     */
+    public static boolean isSupported(Class<?> aClass) {
+        return STRUCT_TYPES.get(aClass) != StructType.UNSUPPORTED;
+    }
+
+    /**
+     * @return Copy of instances being written by the calling thread
+     */
+    static Set<Object> getWritten() {
+        final Set<Object> written = WRITTEN.get();
+        final Set<Object> copy = Collections.newSetFromMap(new IdentityHashMap<>());
+        copy.addAll(written);
+        if (written.isEmpty()) {
+            WRITTEN.remove();
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces instances being written by the calling thread, so thread writing elements on behalf of other thread
+     * detects references to instances the other thread is writing
+     *
+     * @param written Instances being written, that are copied
+     */
+    static void setWritten(Set<Object> written) {
+        if (written.isEmpty()) {
+            WRITTEN.remove();
+        } else {
+            final Set<Object> copy = Collections.newSetFromMap(new IdentityHashMap<>());
+            copy.addAll(written);
+            WRITTEN.set(copy);
+        }
+    }
+
+    @Override public void write(ContentHandler pHandler, Object pObject) throws SAXException {
+        final Set<Object> written = WRITTEN.get();
+        if (!written.add(pObject)) {
+            LOG.debug("Cyclic reference to {} is written as string", pObject.getClass().getName());
+            write(pHandler, null, pObject.toString());
+            return;
+        }
+        try {
+            final StructType type = STRUCT_TYPES.get(pObject.getClass());
+            final Object[] values;
+            try {
+                values = type.getValues(pObject);
+            } catch (Throwable e) {
+                LOG.warn("Cannot read properties of {}: {}", pObject.getClass().getName(), e.getMessage(), e);
+                write(pHandler, null, pObject.toString());
+                return;
+            }
+            super.write(pHandler, new Struct(type.names, values));
+        } finally {
+            written.remove(pObject);
+            if (written.isEmpty()) {
+                WRITTEN.remove();
+            }
+        }
+    }
+
+    @Override protected void writeData(ContentHandler pHandler, Object pData) throws SAXException {
+        final Struct struct = (Struct) pData;
+        for (int i = 0; i < struct.names.length; i++) {
+            writeEntry(pHandler, struct.names[i], struct.values[i]);
+        }
+    }
+
+    private static Method findMethod(Class<?> aClass, String name) {
+        try {
+            return aClass.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Names of properties with values read from single instance
+     */
+    private static final class Struct {
+
+        private final String[] names;
+        private final Object[] values;
+
+        private Struct(String[] names, Object[] values) {
+            this.names = names;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Properties of class together with their accessors. It references only class it describes, so it can be cached
+     * per class without keeping other classes reachable.
+     */
+    private static final class StructType {
+
+        private static final StructType UNSUPPORTED = new StructType(new String[0], new MethodHandle[0]);
+        private final String[] names;
+        private final MethodHandle[] accessors;
+
+        private StructType(String[] names, MethodHandle[] accessors) {
+            this.names = names;
+            this.accessors = accessors;
+        }
+
+        private static StructType of(Class<?> type) {
+            final List<String> names = new ArrayList<>();
+            final List<MethodHandle> accessors = new ArrayList<>();
+            try {
+                if (isRecord(type)) {
+                    for (Object component : (Object[]) GET_RECORD_COMPONENTS.invoke(type)) {
+                        final Method accessor =
+                                (Method) component.getClass().getMethod("getAccessor").invoke(component);
+                        names.add(accessor.getName());
+                        accessors.add(unreflect(accessor));
+                    }
+                } else if (!type.isArray() && !type.isPrimitive() && !type.isEnum()) {
+                    final JsonSerializer<Object> serializer = MAPPER.getSerializerProviderInstance()
+                            .findValueSerializer(type);
+                    if (!(serializer instanceof BeanSerializerBase)) {
+                        return UNSUPPORTED;
+                    }
+                    for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+                        final PropertyWriter property = it.next();
+                        if (!(property instanceof BeanPropertyWriter)) {
+                            return UNSUPPORTED;
+                        }
+                        names.add(property.getName());
+                        accessors.add(unreflect(((BeanPropertyWriter) property).getMember().getMember()));
+                    }
+                }
+            } catch (Throwable e) {
+                LOG.debug("Cannot introspect properties of {}: {}", type.getName(), e.getMessage());
+                return UNSUPPORTED;
+            }
+            return names.isEmpty() ? UNSUPPORTED : new StructType(names.toArray(new String[0]),
+                    accessors.toArray(new MethodHandle[0]));
+        }
+
+        private static boolean isRecord(Class<?> type) throws ReflectiveOperationException {
+            return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+        }
+
+        private static MethodHandle unreflect(Member member) throws IllegalAccessException {
+            ((AccessibleObject) member).setAccessible(true);
+            final MethodHandle accessor = member instanceof Field ?
+                    MethodHandles.lookup().unreflectGetter((Field) member) :
+                    MethodHandles.lookup().unreflect((Method) member);
+            return accessor.asType(ACCESSOR_TYPE);
+        }
+
+        private Object[] getValues(Object instance) throws Throwable {
+            final Object[] values = new Object[accessors.length];
+            for (int i = 0; i < accessors.length; i++) {
+                values[i] = accessors[i].invokeExact(instance);
+            }
+            return values;
+        }
+    }
+}
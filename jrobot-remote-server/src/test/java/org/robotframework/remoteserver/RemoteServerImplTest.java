@@ -84,4 +84,15 @@ public class RemoteServerImplTest {
         Assert.assertFalse(serverListening(remoteServer.getHost(), remoteServer.getPort()));
     }
 
+    @Test public void startVirtualThreads() throws Exception {
+        remoteServer = new RemoteServerImpl(true);
+        remoteServer.setPort(8022);
+        remoteServer.setHost("localhost");
+
+        remoteServer.start();
+        Assert.assertTrue(serverListening(remoteServer.getHost(), remoteServer.getPort()));
+        remoteServer.stop();
+        Assert.assertFalse(serverListening(remoteServer.getHost(), remoteServer.getPort()));
+    }
+
 }
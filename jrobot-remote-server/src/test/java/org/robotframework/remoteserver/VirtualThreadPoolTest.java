@@ -0,0 +1,35 @@
+package org.robotframework.remoteserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link VirtualThreadPool}
+ */
+public class VirtualThreadPoolTest {
+
+    @Test(timeout = 10000) public void execute() throws Exception {
+        final VirtualThreadPool threadPool = new VirtualThreadPool();
+        if (!VirtualThreadPool.isSupported()) {
+            try {
+                threadPool.start();
+                Assert.fail();
+            } catch (UnsupportedOperationException ignored) {
+            }
+            return;
+        }
+        threadPool.start();
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        threadPool.execute(() -> result.complete(Thread.currentThread().toString()));
+        Assert.assertTrue(result.get(5, TimeUnit.SECONDS).startsWith("VirtualThread"));
+        threadPool.stop();
+        try {
+            threadPool.execute(() -> {
+            });
+            Assert.fail();
+        } catch (RuntimeException ignored) {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.robotframework.remoteserver.io;
+
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BufferPool}
+ */
+public class BufferPoolTest {
+
+    @Test public void acquire() throws Exception {
+        final BufferPool pool = new BufferPool(16, 1);
+        final ByteBuffer first = pool.acquire(), second = pool.acquire();
+        Assert.assertTrue(first.isDirect());
+        Assert.assertEquals(16, first.capacity());
+        Assert.assertFalse(second.isDirect());
+        Assert.assertEquals(16, second.capacity());
+        Assert.assertEquals(0, pool.getHits());
+        Assert.assertEquals(2, pool.getMisses());
+        Assert.assertEquals(1, pool.getHeapAllocations());
+        Assert.assertEquals(1, pool.getOutstanding());
+        first.put((byte) 1);
+        pool.release(first);
+        pool.release(second);
+        pool.release(ByteBuffer.allocate(16));
+        Assert.assertEquals(1, pool.getPooled());
+        Assert.assertEquals(0, pool.getOutstanding());
+        final ByteBuffer third = pool.acquire();
+        Assert.assertSame(first, third);
+        Assert.assertEquals(0, third.position());
+        Assert.assertEquals(1, pool.getHits());
+        Assert.assertEquals(0, pool.getPooled());
+        Assert.assertEquals(1, pool.getOutstanding());
+        Assert.assertFalse(pool.acquire().isDirect());
+        pool.release(third);
+        Assert.assertSame(third, pool.acquire());
+    }
+
+    @Test public void writeTo() throws Exception {
+        final BufferPool pool = new BufferPool(16, 1);
+        pool.release(pool.acquire());
+        pool.acquire();
+        final String metrics = pool.writeTo(new StringBuilder()).toString();
+        Assert.assertTrue(metrics.contains("jrobot_response_buffer_pool_hits_total 1\n"));
+        Assert.assertTrue(metrics.contains("jrobot_response_buffer_pool_misses_total 1\n"));
+        Assert.assertTrue(metrics.contains("jrobot_response_buffer_pool_pooled 0\n"));
+        Assert.assertTrue(metrics.contains("jrobot_response_buffer_pool_outstanding 1\n"));
+        Assert.assertTrue(metrics.contains("jrobot_response_buffer_pool_heap_total 0\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void invalidSize() throws Exception {
+        new BufferPool(0, 1);
+    }
+}
@@ -0,0 +1,50 @@
+package org.robotframework.remoteserver.io;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompressingOutputStream}
+ */
+public class CompressingOutputStreamTest {
+
+    @Test public void writeSmall() throws Exception {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final AtomicInteger compressions = new AtomicInteger();
+        try (CompressingOutputStream stream = new CompressingOutputStream(target, 16,
+                compressions::incrementAndGet)) {
+            stream.write(new byte[10]);
+            stream.write(1);
+            stream.flush();
+            Assert.assertEquals(0, target.size());
+            Assert.assertFalse(stream.isCompressed());
+        }
+        Assert.assertEquals(11, target.size());
+        Assert.assertEquals(0, compressions.get());
+    }
+
+    @Test public void writeLarge() throws Exception {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final AtomicInteger compressions = new AtomicInteger();
+        final byte[] data = new byte[100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 7);
+        }
+        try (CompressingOutputStream stream = new CompressingOutputStream(target, 1024,
+                compressions::incrementAndGet)) {
+            stream.write(data, 0, 1000);
+            Assert.assertFalse(stream.isCompressed());
+            stream.write(data, 1000, data.length - 1000);
+            Assert.assertTrue(stream.isCompressed());
+        }
+        Assert.assertEquals(1, compressions.get());
+        Assert.assertTrue(target.size() < data.length / 10);
+        Assert.assertArrayEquals(data,
+                ByteStreams.toByteArray(new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))));
+    }
+}
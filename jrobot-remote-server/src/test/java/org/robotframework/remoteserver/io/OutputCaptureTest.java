@@ -0,0 +1,90 @@
+package org.robotframework.remoteserver.io;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link OutputCapture}
+ */
+public class OutputCaptureTest {
+
+    @Test public void capture() throws Exception {
+        final OutputCapture capture = OutputCapture.start();
+        System.out.print("out");
+        System.err.println("err");
+        capture.close();
+        Assert.assertEquals("out", capture.getStdOut());
+        Assert.assertEquals("err" + System.lineSeparator(), capture.getStdErr());
+    }
+
+    @Test public void captureNested() throws Exception {
+        final OutputCapture outer = OutputCapture.start();
+        System.out.print("outer");
+        try (OutputCapture inner = OutputCapture.start()) {
+            System.out.print("inner");
+            Assert.assertEquals("inner", inner.getStdOut());
+        }
+        System.out.print("outer");
+        outer.close();
+        Assert.assertEquals("outerouter", outer.getStdOut());
+    }
+
+    @Test(timeout = 10000) public void captureConcurrent() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final CountDownLatch latch = new CountDownLatch(2);
+        try {
+            final Future<String> first = executor.submit(() -> capture("first", latch));
+            final Future<String> second = executor.submit(() -> capture("second", latch));
+            Assert.assertEquals("firstfirst", first.get());
+            Assert.assertEquals("secondsecond", second.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000) public void captureChildTasks() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> System.out.print("")).get();
+        try (OutputCapture capture = OutputCapture.start()) {
+            final Thread thread = new Thread(() -> System.out.print("thread"));
+            thread.start();
+            thread.join();
+            executor.submit(OutputCapture.wrap(() -> System.out.print("task"))).get();
+            Assert.assertEquals("threadtask", capture.getStdOut());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000) public void captureClosedInChildThread() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final OutputCapture outer = OutputCapture.start();
+            final OutputCapture inner = OutputCapture.start();
+            // Pool thread is created during capture, so it inherits it
+            executor.submit(() -> System.out.print("inner")).get();
+            inner.close();
+            executor.submit(() -> System.out.print("outer")).get();
+            outer.close();
+            executor.submit(() -> Assert.assertNull(OutputCapture.current())).get();
+            Assert.assertEquals("inner", inner.getStdOut());
+            Assert.assertEquals("outer", outer.getStdOut());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String capture(String text, CountDownLatch latch) throws InterruptedException {
+        try (OutputCapture capture = OutputCapture.start()) {
+            System.out.print(text);
+            latch.countDown();
+            latch.await();
+            System.out.print(text);
+            return capture.getStdOut();
+        }
+    }
+}
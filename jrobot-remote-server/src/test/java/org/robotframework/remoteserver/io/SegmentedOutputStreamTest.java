@@ -0,0 +1,56 @@
+package org.robotframework.remoteserver.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SegmentedOutputStream}
+ */
+public class SegmentedOutputStreamTest {
+
+    @Test public void write() throws Exception {
+        final BufferPool pool = new BufferPool(4, 8);
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final byte[] data = new byte[30];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        try (SegmentedOutputStream stream = new SegmentedOutputStream(target, pool, 2)) {
+            stream.write(data, 0, 7);
+            Assert.assertFalse(stream.isWritten());
+            stream.write(data, 7, 3);
+            Assert.assertEquals(8, target.size());
+            Assert.assertTrue(stream.isWritten());
+            stream.write(data[10]);
+            stream.write(data, 11, 19);
+            Assert.assertEquals(24, target.size());
+        }
+        Assert.assertArrayEquals(data, target.toByteArray());
+        Assert.assertEquals(pool.getMisses(), pool.getPooled());
+        Assert.assertTrue(pool.getHits() > 0);
+    }
+
+    @Test public void release() throws Exception {
+        final BufferPool pool = new BufferPool(4, 8);
+        final OutputStream target = new OutputStream() {
+
+            @Override public void write(int b) throws IOException {
+                throw new IOException("Closed");
+            }
+        };
+        final SegmentedOutputStream stream = new SegmentedOutputStream(target, pool, 8);
+        stream.write(new byte[10]);
+        try {
+            stream.close();
+            Assert.fail("Exception expected");
+        } catch (IOException e) {
+            Assert.assertEquals("Closed", e.getMessage());
+        }
+        Assert.assertEquals(3, pool.getPooled());
+        stream.release();
+        Assert.assertEquals(3, pool.getPooled());
+    }
+}
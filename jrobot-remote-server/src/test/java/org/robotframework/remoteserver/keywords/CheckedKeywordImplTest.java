@@ -1,5 +1,6 @@
 package org.robotframework.remoteserver.keywords;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import org.junit.Assert;
@@ -43,6 +44,25 @@ public class CheckedKeywordImplTest {
         Assert.assertEquals(1, checkedKeyword.execute(new Object[] {3, "bad input"}));
     }
 
+    @Test public void executeStatic() throws Exception {
+        final CheckedKeywordImpl staticKeyword =
+                new CheckedKeywordImpl(abstractLibrary, Integer.class.getMethod("parseInt", String.class));
+        Assert.assertEquals(42, staticKeyword.execute(new Object[] {"42"}));
+    }
+
+    @Test public void executeFailure() throws Exception {
+        final CheckedKeywordImpl failingKeyword =
+                new CheckedKeywordImpl("text", String.class.getMethod("charAt", int.class));
+        Assert.assertEquals('x', failingKeyword.execute(new Object[] {2}));
+        try {
+            failingKeyword.execute(new Object[] {10});
+            Assert.fail("Keyword failure should be propagated");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof InvocationTargetException);
+            Assert.assertTrue(e.getCause().getCause() instanceof IndexOutOfBoundsException);
+        }
+    }
+
     @Test public void canExecute() throws Exception {
         Assert.assertTrue(checkedKeyword.canExecute(new Object[] {1, 2}));
         Assert.assertFalse(checkedKeyword.canExecute(new Object[] {1.2f, 2}));
@@ -50,6 +70,21 @@ public class CheckedKeywordImplTest {
         Assert.assertFalse(checkedKeyword.canExecute(new Object[] {"bad input", 2}));
     }
 
+    @Test public void convertArguments() throws Exception {
+        Assert.assertArrayEquals(new Object[] {1, 2}, checkedKeyword.convertArguments(new Object[] {"1", 2}));
+        Assert.assertNull(checkedKeyword.convertArguments(new Object[] {"bad input", 2}));
+        Assert.assertEquals(3, checkedKeyword.executeConverted(checkedKeyword.convertArguments(new Object[] {1, 2})));
+        final Object[] converted = {1, 2};
+        Assert.assertSame(converted, checkedKeyword.convertArguments(converted));
+    }
+
+    @Test public void isResolvedByTypes() throws Exception {
+        Assert.assertTrue(checkedKeyword.isResolvedByTypes(new Class<?>[] {Integer.class, Integer.class}));
+        Assert.assertTrue(checkedKeyword.isResolvedByTypes(new Class<?>[] {null, Integer.class}));
+        Assert.assertFalse(checkedKeyword.isResolvedByTypes(new Class<?>[] {String.class, Integer.class}));
+        Assert.assertFalse(checkedKeyword.isResolvedByTypes(new Class<?>[] {Integer.class, Long.class}));
+    }
+
     @Test public void getArgumentConverter() throws Exception {
         final IArgumentConverter argumentConverter = checkedKeyword.getArgumentConverter();
         Assert.assertNotNull(argumentConverter);
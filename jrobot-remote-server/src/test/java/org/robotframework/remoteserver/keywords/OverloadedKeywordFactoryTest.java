@@ -23,6 +23,8 @@ public class OverloadedKeywordFactoryTest {
 
     @Before public void setUp() throws Exception {
         keyword = mock(OverloadedKeyword.class);
+        Mockito.when(keyword.getArgumentNames()).thenReturn(new String[] {"arg"});
+        Mockito.when(keyword.getTags()).thenReturn(new String[] {"tag"});
         keywordMap = Collections.singletonMap(keywordName, keyword);
         remoteLibrary = mock(RemoteLibrary.class);
         extractor = mock(KeywordExtractor.class);
@@ -38,6 +40,18 @@ public class OverloadedKeywordFactoryTest {
     @Test public void getKeywordNames() throws Exception {
         Assert.assertArrayEquals(new String[] {keywordName},
                 Arrays.stream(keywordFactory.getKeywordNames()).sorted().toArray());
+        Assert.assertSame(keywordFactory.getKeywordNames(), keywordFactory.getKeywordNames());
+    }
+
+    @Test public void getKeywordMetadata() throws Exception {
+        final KeywordMetadata metadata = keywordFactory.getKeywordMetadata(keywordName);
+        Assert.assertEquals(keywordName, metadata.getName());
+        Assert.assertArrayEquals(new String[] {"arg"}, metadata.getArgumentNames());
+        Assert.assertArrayEquals(new String[] {"tag"}, metadata.getTags());
+        Assert.assertEquals("", metadata.getDocumentation());
+        Assert.assertSame(metadata, keywordFactory.getKeywordMetadata(keywordName));
+        Assert.assertNull(keywordFactory.getKeywordMetadata("notKnownKeyword"));
+        Mockito.verify(keyword, Mockito.times(1)).getTags();
     }
 
 }
@@ -7,6 +7,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.robotframework.remoteserver.AbstractLibraryTest;
 import org.robotframework.remoteserver.RemoteServer;
+import org.robotframework.remoteserver.anotations.KeywordConcurrency;
 
 import static org.mockito.Mockito.mock;
 
@@ -48,12 +49,50 @@ public class OverloadedKeywordImplTest {
         Assert.assertEquals(3, checkedKeywordDefault.execute(new Object[] {1, 1, 1}));
     }
 
+    @Test public void executeOverloads() throws Exception {
+        final OverloadedKeywordImpl concat = new OverloadedKeywordImpl(new Overloads(),
+                Overloads.class.getMethod("concat", String.class, String.class));
+        concat.addOverload(Overloads.class.getMethod("concat", String.class, int.class));
+        concat.addOverload(Overloads.class.getMethod("concat", int.class, String.class));
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals("int,String", concat.execute(new Object[] {"5", "x"}));
+            Assert.assertEquals("String,int", concat.execute(new Object[] {"x", "5"}));
+            Assert.assertEquals("String,String", concat.execute(new Object[] {"x", "y"}));
+            Assert.assertEquals("int,String", concat.execute(new Object[] {5, "x"}));
+            Assert.assertEquals("int,String", concat.execute(new Object[] {"5", "6"}));
+        }
+    }
+
     @Test public void addOverload() throws Exception {
         Assert.assertEquals(2, checkedKeywordDefault.getArgumentNames().length);
         addDefaultOverload();
         Assert.assertEquals(3, checkedKeywordDefault.getArgumentNames().length);
     }
 
+    @Test public void getConcurrencyPolicy() throws Exception {
+        Assert.assertEquals(KeywordConcurrency.Policy.SERIAL, checkedKeyword.getConcurrencyPolicy());
+        Assert.assertEquals(0, checkedKeyword.getStripeArgument());
+    }
+
+    @Test public void stripeOutOfRange() throws Exception {
+        for (String name : new String[] {"negative", "beyond"}) {
+            try {
+                new OverloadedKeywordImpl(new Stripes(), Stripes.class.getMethod(name, String.class));
+                Assert.fail("Stripe argument of " + name + " should be rejected");
+            } catch (IllegalArgumentException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains(name));
+            }
+        }
+        final OverloadedKeywordImpl valid =
+                new OverloadedKeywordImpl(new Stripes(), Stripes.class.getMethod("valid", String.class, String.class));
+        Assert.assertEquals(1, valid.getStripeArgument());
+        try {
+            valid.addOverload(Stripes.class.getMethod("valid", String.class));
+            Assert.fail("Overload without stripe argument should be rejected");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     @Test public void getArgumentNames() throws Exception {
         addDefaultOverload();
         Assert.assertArrayEquals(new String[] {"arg0", "arg1", "arg2="},
@@ -62,6 +101,16 @@ public class OverloadedKeywordImplTest {
                 Arrays.stream(checkedKeyword.getArgumentNames()).sorted().toArray());
     }
 
+    @Test public void getArgumentTypes() throws Exception {
+        Assert.assertArrayEquals(new Class<?>[] {int.class, int.class}, checkedKeywordDefault.getArgumentTypes());
+        addDefaultOverload();
+        Assert.assertNull(checkedKeywordDefault.getArgumentTypes());
+        final OverloadedKeywordImpl concat = new OverloadedKeywordImpl(new Overloads(),
+                Overloads.class.getMethod("concat", String.class, String.class));
+        concat.addOverload(Overloads.class.getMethod("concat", String.class, int.class));
+        Assert.assertNull(concat.getArgumentTypes());
+    }
+
     @Test public void getDocumentation() throws Exception {
         Assert.assertEquals("plusDoc", checkedKeyword.getDocumentation());
         Assert.assertEquals("", checkedKeywordDefault.getDocumentation());
@@ -77,4 +126,35 @@ public class OverloadedKeywordImplTest {
 
     }
 
+    public static class Overloads {
+
+        public String concat(String a, String b) {
+            return "String,String";
+        }
+
+        public String concat(String a, int b) {
+            return "String,int";
+        }
+
+        public String concat(int a, String b) {
+            return "int,String";
+        }
+    }
+
+    public static class Stripes {
+
+        @KeywordConcurrency(value = KeywordConcurrency.Policy.STRIPED, stripe = -1) public void negative(String a) {
+        }
+
+        @KeywordConcurrency(value = KeywordConcurrency.Policy.STRIPED, stripe = 1) public void beyond(String a) {
+        }
+
+        @KeywordConcurrency(value = KeywordConcurrency.Policy.STRIPED, stripe = 1)
+        public void valid(String a, String b) {
+        }
+
+        public void valid(String a) {
+        }
+    }
+
 }
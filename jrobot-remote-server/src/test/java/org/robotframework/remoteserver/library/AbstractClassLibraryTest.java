@@ -3,14 +3,22 @@ package org.robotframework.remoteserver.library;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 import org.apache.commons.collections.map.HashedMap;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.robotframework.javalib.annotation.RobotKeyword;
+import org.robotframework.javalib.annotation.RobotKeywords;
 import org.robotframework.javalib.factory.KeywordFactory;
 import org.robotframework.remoteserver.AbstractLibraryTest;
 import org.robotframework.remoteserver.RemoteServer;
+import org.robotframework.remoteserver.anotations.KeywordConcurrency;
 
 import static org.mockito.Mockito.mock;
 
@@ -50,6 +58,34 @@ public class AbstractClassLibraryTest {
         Assert.assertEquals(-3, library.runKeyword(keywordMinus, new Object[0], setArgs("arg0", "arg1", 2, 5)));
     }
 
+    @Test(timeout = 10000) public void runKeywordConcurrency() throws Exception {
+        final AbstractClassLibrary concurrentLibrary = new ConcurrentLibrary(mock(RemoteServer.class));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Object> serial;
+            synchronized (concurrentLibrary) {
+                Assert.assertEquals(1, executor.submit(
+                        () -> concurrentLibrary.runKeyword("parallel", new Object[] {1}, Collections.emptyMap()))
+                        .get());
+                Assert.assertEquals("device", executor.submit(
+                        () -> concurrentLibrary.runKeyword("striped", new Object[] {"device"},
+                                Collections.emptyMap())).get());
+                Assert.assertEquals(1,
+                        executor.submit(() -> concurrentLibrary.getKeywordArguments("serial")).get().length);
+                serial = executor.submit(
+                        () -> concurrentLibrary.runKeyword("serial", new Object[] {2}, Collections.emptyMap()));
+                try {
+                    serial.get(100, TimeUnit.MILLISECONDS);
+                    Assert.fail("Serial keyword should wait for library lock");
+                } catch (TimeoutException ignored) {
+                }
+            }
+            Assert.assertEquals(2, serial.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test public void getKeywordArguments() throws Exception {
         Assert.assertArrayEquals(Stream.of("arg0", "arg1").sorted().toArray(),
                 Arrays.stream(library.getKeywordArguments(keywordMinus)).sorted().toArray());
@@ -58,6 +94,12 @@ public class AbstractClassLibraryTest {
                 Arrays.stream(library.getKeywordArguments(keywordPlus)).sorted().toArray());
     }
 
+    @Test public void getKeywordArgumentTypes() throws Exception {
+        Assert.assertArrayEquals(new Class<?>[] {int.class, int.class}, library.getKeywordArgumentTypes(keywordPlus));
+        Assert.assertNull(library.getKeywordArgumentTypes("defaultKeyword"));
+        Assert.assertNull(library.getKeywordArgumentTypes("missing"));
+    }
+
     @Test public void getKeywordTags() throws Exception {
         Assert.assertArrayEquals(new String[0], Arrays.stream(library.getKeywordTags(keywordPlus)).sorted().toArray());
 
@@ -80,4 +122,30 @@ public class AbstractClassLibraryTest {
         Assert.assertTrue(AbstractLibraryTest.closed.get());
     }
 
+    @RobotKeywords public static class ConcurrentLibrary extends AbstractClassLibrary {
+
+        ConcurrentLibrary(RemoteServer server) {
+            super(server);
+        }
+
+        @RobotKeyword @KeywordConcurrency(KeywordConcurrency.Policy.PARALLEL) public int parallel(int a) {
+            return a;
+        }
+
+        @RobotKeyword @KeywordConcurrency(KeywordConcurrency.Policy.STRIPED) public String striped(String device) {
+            return device;
+        }
+
+        @RobotKeyword public int serial(int a) {
+            return a;
+        }
+
+        @Override public String getURI() {
+            return "ConcurrentURI";
+        }
+
+        @Override public void close() {
+        }
+    }
+
 }
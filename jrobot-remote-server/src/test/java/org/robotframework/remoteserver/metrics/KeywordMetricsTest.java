@@ -0,0 +1,54 @@
+package org.robotframework.remoteserver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link KeywordMetrics}
+ */
+public class KeywordMetricsTest {
+
+    @Test public void getKeywordLabel() throws Exception {
+        final KeywordMetrics metrics = new KeywordMetrics();
+        final RemoteLibrary library = mock(RemoteLibrary.class);
+        Mockito.when(library.getKeywordNames()).thenReturn(new String[] {"myKeyword", null});
+        Assert.assertEquals("myKeyword", metrics.getKeywordLabel(library, "myKeyword"));
+        Assert.assertEquals("myKeyword", metrics.getKeywordLabel(library, "My Keyword"));
+        Assert.assertEquals("myKeyword", metrics.getKeywordLabel(library, "my_keyword"));
+        Assert.assertEquals(KeywordMetrics.UNKNOWN_KEYWORD, metrics.getKeywordLabel(library, "missing"));
+        Assert.assertEquals(KeywordMetrics.UNKNOWN_KEYWORD, metrics.getKeywordLabel(library, null));
+        Assert.assertEquals(KeywordMetrics.UNKNOWN_KEYWORD, metrics.getKeywordLabel(null, "myKeyword"));
+        Mockito.verify(library, Mockito.times(1)).getKeywordNames();
+    }
+
+    @Test public void record() throws Exception {
+        final KeywordMetrics metrics = new KeywordMetrics();
+        Assert.assertNull(metrics.getHistogram("/library", "keyword", true));
+        metrics.record("/library", "keyword", true, 1);
+        metrics.record("/library", "keyword", true, 2);
+        metrics.record("/library", "keyword", false, 3);
+        Assert.assertEquals(3, metrics.getHistogram("/library", "keyword", true).getSum());
+        Assert.assertEquals(3, metrics.getHistogram("/library", "keyword", false).getSum());
+        Assert.assertNull(metrics.getHistogram("/other", "keyword", true));
+    }
+
+    @Test public void writeTo() throws Exception {
+        final KeywordMetrics metrics = new KeywordMetrics();
+        metrics.record("/library", "key\"word", true, TimeUnit.MILLISECONDS.toNanos(2));
+        final String text = metrics.writeTo(new StringBuilder()).toString();
+        Assert.assertTrue(text.startsWith("# HELP jrobot_keyword_duration_seconds "));
+        Assert.assertTrue(text.contains("# TYPE jrobot_keyword_duration_seconds histogram\n"));
+        final String labels = "{path=\"/library\",keyword=\"key\\\"word\",status=\"PASS\"";
+        Assert.assertTrue(text.contains("jrobot_keyword_duration_seconds_bucket" + labels + ",le=\"0.001\"} 0\n"));
+        Assert.assertTrue(text.contains("jrobot_keyword_duration_seconds_bucket" + labels + ",le=\"0.0025\"} 1\n"));
+        Assert.assertTrue(text.contains("jrobot_keyword_duration_seconds_bucket" + labels + ",le=\"+Inf\"} 1\n"));
+        Assert.assertTrue(text.contains("jrobot_keyword_duration_seconds_sum" + labels + "} 0.002\n"));
+        Assert.assertTrue(text.contains("jrobot_keyword_duration_seconds_count" + labels + "} 1\n"));
+        Assert.assertFalse(text.contains("FAIL"));
+    }
+}
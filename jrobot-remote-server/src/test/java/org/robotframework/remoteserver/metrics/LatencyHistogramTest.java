@@ -0,0 +1,27 @@
+package org.robotframework.remoteserver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LatencyHistogram}
+ */
+public class LatencyHistogramTest {
+
+    @Test public void record() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.MINUTES.toNanos(5));
+        final long[] counts = histogram.getCumulativeCounts();
+        Assert.assertEquals(LatencyHistogram.BOUNDS.length + 1, counts.length);
+        Assert.assertEquals(2, counts[0]);
+        Assert.assertEquals(2, counts[2]);
+        Assert.assertEquals(3, counts[3]);
+        Assert.assertEquals(3, counts[counts.length - 2]);
+        Assert.assertEquals(4, counts[counts.length - 1]);
+        Assert.assertEquals(TimeUnit.MICROSECONDS.toNanos(3600) + TimeUnit.MINUTES.toNanos(5), histogram.getSum());
+    }
+}
@@ -0,0 +1,71 @@
+package org.robotframework.remoteserver.servlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+/**
+ * Tests for {@link KeywordResultWriter}
+ */
+public class KeywordResultWriterTest {
+
+    private KeywordResultWriter writer;
+
+    @Before public void setUp() throws Exception {
+        writer = new KeywordResultWriter();
+    }
+
+    @Test public void writeCompact() throws Exception {
+        final KeywordResult result = new KeywordResult();
+        result.put(KeywordResult.RETURN, 3);
+        result.put(KeywordResult.STATUS, "PASS");
+        Assert.assertTrue(writer.write(result, true, true));
+        Assert.assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><methodResponse><params><param><value><struct>"
+                + "<member><name>status</name><value>PASS</value></member>"
+                + "<member><name>return</name><value><i4>3</i4></value></member>"
+                + "</struct></value></param></params></methodResponse>", toString(writer));
+    }
+
+    @Test public void writeTyped() throws Exception {
+        final KeywordResult result = new KeywordResult();
+        result.put(KeywordResult.STATUS, "FAIL");
+        result.put(KeywordResult.ERROR, "a < b & \u00e9\u20ac\ud83d\ude00\r");
+        result.put(KeywordResult.FATAL, true);
+        Assert.assertTrue(writer.write(result, false, true));
+        final String response = toString(writer);
+        Assert.assertTrue(response.contains("\n<member>\n<name>error</name>\n"
+                + "<value><string>a &lt; b &amp; \u00e9\u20ac\ud83d\ude00&#13;</string></value>\n</member>\n"));
+        Assert.assertTrue(response.contains("<value><boolean>1</boolean></value>"));
+        final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals("a < b & \u00e9\u20ac\ud83d\ude00\r",
+                document.getElementsByTagName("string").item(1).getTextContent());
+    }
+
+    @Test public void writeUnsupported() throws Exception {
+        final KeywordResult result = new KeywordResult();
+        result.put(KeywordResult.STATUS, "PASS");
+        result.put(KeywordResult.RETURN, new Object[] {1});
+        Assert.assertFalse(writer.write(result, true, true));
+        result.put(KeywordResult.RETURN, "\u0001");
+        Assert.assertFalse(writer.write(result, true, true));
+        result.put(KeywordResult.RETURN, 1L);
+        Assert.assertFalse(writer.write(result, true, false));
+        Assert.assertTrue(writer.write(result, true, true));
+        Assert.assertTrue(toString(writer).contains("<value>1</value>"));
+        result.put("other", "value");
+        Assert.assertFalse(writer.write(result, true, true));
+    }
+
+    private static String toString(KeywordResultWriter writer) throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.writeTo(stream);
+        Assert.assertEquals(writer.size(), stream.size());
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
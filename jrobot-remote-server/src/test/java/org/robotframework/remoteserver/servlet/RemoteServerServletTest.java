@@ -1,17 +1,29 @@
 package org.robotframework.remoteserver.servlet;
 
+import com.google.common.base.Strings;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.servlet.ServletConfig;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.common.XmlRpcHttpRequestConfigImpl;
 import org.apache.xmlrpc.server.XmlRpcHandlerMapping;
 import org.apache.xmlrpc.webserver.XmlRpcServletServer;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.robotframework.remoteserver.AbstractLibraryTest;
 import org.robotframework.remoteserver.RemoteServer;
 import org.robotframework.remoteserver.exceptions.IllegalPathException;
 import org.robotframework.remoteserver.library.RemoteLibrary;
+import org.robotframework.remoteserver.metrics.KeywordMetrics;
+import org.robotframework.remoteserver.xmlrpc.MulticallHandler;
 
 import static org.mockito.Mockito.mock;
 
@@ -31,6 +43,10 @@ public class RemoteServerServletTest {
         Assert.assertNotNull(servlet.getLibraryMap().get(path));
     }
 
+    @Test(expected = IllegalPathException.class) public void putLibraryMetricsPath() throws Exception {
+        servlet.putLibrary(RemoteServerServlet.METRICS_PATH, mock(RemoteLibrary.class));
+    }
+
     @Test public void removeLibrary() throws Exception {
         Assert.assertTrue(servlet.getLibraryMap().isEmpty());
         servlet.putLibrary(path, mock(RemoteLibrary.class));
@@ -72,6 +88,25 @@ public class RemoteServerServletTest {
                 servlet.getPage());
     }
 
+    @Test public void doGetMetrics() throws Exception {
+        final HttpServletRequest request = mock(HttpServletRequest.class);
+        final HttpServletResponse response = mock(HttpServletResponse.class);
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        Mockito.when(request.getPathInfo()).thenReturn(RemoteServerServlet.METRICS_PATH);
+        Mockito.when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override public void write(int b) {
+                body.write(b);
+            }
+        });
+        servlet.getKeywordMetrics().record(path, "keyword", true, 1);
+        servlet.doGet(request, response);
+        Mockito.verify(response).setContentType(KeywordMetrics.CONTENT_TYPE);
+        Assert.assertEquals(servlet.getResponseBuffers().writeTo(servlet.getKeywordMetrics()
+                        .writeTo(new StringBuilder())).toString(),
+                body.toString(StandardCharsets.UTF_8.name()));
+    }
+
     @Test public void newXmlRpcServer() throws Exception {
         final XmlRpcServletServer server = servlet.newXmlRpcServer(mock(ServletConfig.class));
         Assert.assertNotNull(server);
@@ -79,6 +114,34 @@ public class RemoteServerServletTest {
         Assert.assertNotNull(server.getErrorLogger());
         Assert.assertNotNull(server.getTypeFactory());
         Assert.assertNotNull(server.getWorkerFactory());
+        Assert.assertFalse(server.getConfig().isEnabledForExtensions());
+        Assert.assertFalse(((RemoteXmlRpcServletServer) server).isContentLengthRequired(null));
+        Assert.assertTrue(((RemoteXmlRpcServletServer) server).isCompact());
+        Assert.assertTrue(((RemoteXmlRpcServletServer) server).isTypedArguments());
+        Assert.assertEquals(8192, ((RemoteXmlRpcServletServer) server).getGzipThreshold());
+        servlet.setExtensionsEnabled(true);
+        servlet.setCompactResponses(false);
+        servlet.setGzipThreshold(-1);
+        servlet.setTypedArguments(false);
+        final XmlRpcServletServer other = servlet.newXmlRpcServer(mock(ServletConfig.class));
+        Assert.assertTrue(other.getConfig().isEnabledForExtensions());
+        Assert.assertFalse(((RemoteXmlRpcServletServer) other).isCompact());
+        Assert.assertFalse(((RemoteXmlRpcServletServer) other).isTypedArguments());
+        Assert.assertEquals(-1, ((RemoteXmlRpcServletServer) other).getGzipThreshold());
+    }
+
+    @Test public void getRequestLarge() throws Exception {
+        final RemoteXmlRpcServletServer server =
+                (RemoteXmlRpcServletServer) servlet.newXmlRpcServer(mock(ServletConfig.class));
+        final String argument = Strings.repeat("a", RemoteXmlRpcServletServer.MAX_BUFFERED_REQUEST_SIZE);
+        final byte[] body = ("<?xml version=\"1.0\"?><methodCall><methodName>run_keyword</methodName><params>"
+                + "<param><value>keyword</value></param><param><value><array><data><value>" + argument
+                + "</value></data></array></value></param></params></methodCall>").getBytes(StandardCharsets.UTF_8);
+        final XmlRpcRequest request =
+                server.getRequest(new XmlRpcHttpRequestConfigImpl(), new ByteArrayInputStream(body));
+        Assert.assertEquals("run_keyword", request.getMethodName());
+        Assert.assertEquals(2, request.getParameterCount());
+        Assert.assertArrayEquals(new Object[] {argument}, (Object[]) request.getParameter(1));
     }
 
     @Test public void newXmlRpcHandlerMapping() throws Exception {
@@ -88,6 +151,8 @@ public class RemoteServerServletTest {
         Assert.assertNotNull(mapping.getHandler("run_keyword"));
         Assert.assertNotNull(mapping.getHandler("get_keyword_names"));
         Assert.assertNotNull(mapping.getHandler("get_keyword_documentation"));
+        Assert.assertNotNull(mapping.getHandler("get_library_information"));
+        Assert.assertNotNull(mapping.getHandler(MulticallHandler.METHOD_NAME));
     }
 
 }
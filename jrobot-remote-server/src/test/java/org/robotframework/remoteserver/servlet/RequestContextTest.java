@@ -0,0 +1,45 @@
+package org.robotframework.remoteserver.servlet;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RequestContext}
+ */
+public class RequestContextTest {
+
+    @Test public void open() throws Exception {
+        final HttpServletRequest request = mock(HttpServletRequest.class);
+        final RemoteLibrary library = mock(RemoteLibrary.class);
+        Assert.assertNull(RequestContext.current().getRequest());
+        try (RequestContext outer = RequestContext.open(request, null, null)) {
+            Assert.assertSame(outer, RequestContext.current());
+            try (RequestContext inner = RequestContext.open(request, "/library", library)) {
+                Assert.assertSame(inner, RequestContext.current());
+                Assert.assertSame(library, RequestContext.current().getLibrary());
+                Assert.assertEquals("/library", RequestContext.current().getPath());
+            }
+            Assert.assertSame(outer, RequestContext.current());
+            Assert.assertNull(RequestContext.current().getLibrary());
+        }
+        Assert.assertNull(RequestContext.current().getRequest());
+    }
+
+    @Test(timeout = 10000) public void wrap() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final RemoteLibrary library = mock(RemoteLibrary.class);
+        try (RequestContext ignored = RequestContext.open(mock(HttpServletRequest.class), "/library", library)) {
+            Assert.assertSame(library, executor.submit(RequestContext.wrap(() -> RequestContext.current()
+                    .getLibrary())).get());
+            Assert.assertNull(executor.submit(() -> RequestContext.current().getLibrary()).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.robotframework.remoteserver.servlet;
+
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robotframework.remoteserver.library.RemoteLibrary;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ResponseCache}
+ */
+public class ResponseCacheTest {
+
+    private ResponseCache cache;
+    private RemoteLibrary library;
+
+    @Before public void setUp() throws Exception {
+        cache = new ResponseCache();
+        library = mock(RemoteLibrary.class);
+    }
+
+    @Test public void getKey() throws Exception {
+        Assert.assertEquals("get_keyword_names", ResponseCache.getKey(request("get_keyword_names")));
+        Assert.assertEquals("get_library_information", ResponseCache.getKey(request("get_library_information")));
+        Assert.assertEquals("get_keyword_tags\0plus", ResponseCache.getKey(request("get_keyword_tags", "plus")));
+        Assert.assertNull(ResponseCache.getKey(request("get_keyword_tags")));
+        Assert.assertNull(ResponseCache.getKey(request("get_keyword_tags", 1)));
+        Assert.assertNull(ResponseCache.getKey(request("run_keyword", "plus")));
+    }
+
+    @Test public void get() throws Exception {
+        final byte[] response = new byte[] {1};
+        Assert.assertNull(cache.get("/", library, "key"));
+        cache.put("/", library, "key", response);
+        Assert.assertSame(response, cache.get("/", library, "key"));
+        Assert.assertNull(cache.get("/", mock(RemoteLibrary.class), "key"));
+        Assert.assertNull(cache.get("/other", library, "key"));
+        Assert.assertNull(cache.get("/", library, "other"));
+    }
+
+    @Test public void put() throws Exception {
+        final RemoteLibrary other = mock(RemoteLibrary.class);
+        cache.put("/", library, "key", new byte[] {1});
+        cache.put("/", other, "other", new byte[] {2});
+        Assert.assertNull(cache.get("/", library, "key"));
+        Assert.assertNull(cache.get("/", other, "key"));
+        Assert.assertArrayEquals(new byte[] {2}, cache.get("/", other, "other"));
+    }
+
+    @Test public void invalidate() throws Exception {
+        cache.put("/", library, "key", new byte[] {1});
+        cache.put("/other", library, "key", new byte[] {1});
+        cache.invalidate("/");
+        Assert.assertNull(cache.get("/", library, "key"));
+        Assert.assertNotNull(cache.get("/other", library, "key"));
+        cache.clear();
+        Assert.assertNull(cache.get("/other", library, "key"));
+    }
+
+    private static XmlRpcRequest request(String method, Object... params) {
+        final XmlRpcRequest request = mock(XmlRpcRequest.class);
+        Mockito.when(request.getMethodName()).thenReturn(method);
+        Mockito.when(request.getParameterCount()).thenReturn(params.length);
+        for (int i = 0; i < params.length; i++) {
+            Mockito.when(request.getParameter(i)).thenReturn(params[i]);
+        }
+        return request;
+    }
+}
@@ -11,7 +11,10 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.robotframework.remoteserver.AbstractLibraryTest;
 import org.robotframework.remoteserver.RemoteServer;
+import org.robotframework.remoteserver.keywords.KeywordMetadata;
 import org.robotframework.remoteserver.library.RemoteLibrary;
+import org.robotframework.remoteserver.metrics.KeywordMetrics;
+import org.robotframework.remoteserver.metrics.LatencyHistogram;
 
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -136,6 +139,29 @@ public class ServerMethodsTest {
         Assert.assertEquals(FAIL, result.get("status"));
     }
 
+    @Test public void run_keywordMetrics() throws Exception {
+        final KeywordMetrics metrics = new KeywordMetrics();
+        library = new AbstractLibraryTest(mock(RemoteServer.class));
+        Mockito.when(servlet.getLibrary()).thenReturn(library);
+        Mockito.when(servlet.getLibraryPath()).thenReturn("/library");
+        Mockito.when(servlet.getKeywordMetrics()).thenReturn(metrics);
+
+        serverMethods.run_keyword("plus", new Object[] {1, 2});
+        serverMethods.run_keyword("plus", new Object[] {1, 2.0f});
+        serverMethods.run_keyword("PLUS", new Object[] {3, 4});
+        serverMethods.run_keyword("missing", new Object[] {3, 4});
+        serverMethods.run_keyword("other", new Object[] {3, 4});
+        Assert.assertEquals(2, count(metrics.getHistogram("/library", "plus", true)));
+        Assert.assertEquals(1, count(metrics.getHistogram("/library", "plus", false)));
+        Assert.assertEquals(2, count(metrics.getHistogram("/library", KeywordMetrics.UNKNOWN_KEYWORD, false)));
+        Assert.assertNull(metrics.getHistogram("/library", "PLUS", true));
+    }
+
+    private static long count(LatencyHistogram histogram) {
+        final long[] counts = histogram.getCumulativeCounts();
+        return counts[counts.length - 1];
+    }
+
     @Test public void get_keyword_arguments() throws Exception {
         Mockito.when(servlet.getLibrary()).thenReturn(library);
         Mockito.when(library.getKeywordArguments(anyString())).thenReturn(null);
@@ -156,6 +182,26 @@ public class ServerMethodsTest {
         Assert.assertEquals("documentation", serverMethods.get_keyword_documentation("keyword"));
     }
 
+    @Test public void get_library_information() throws Exception {
+        library = new AbstractLibraryTest(mock(RemoteServer.class));
+        Mockito.when(servlet.getLibrary()).thenReturn(library);
+
+        final Map<String, Map<String, Object>> information = serverMethods.get_library_information();
+        Assert.assertArrayEquals(Stream.concat(Arrays.stream(library.getKeywordNames()),
+                Stream.of(KeywordMetadata.INTRO, KeywordMetadata.INIT)).sorted().toArray(),
+                information.keySet().stream().sorted().toArray());
+        final Map<String, Object> plus = information.get("plus");
+        Assert.assertArrayEquals(new String[] {"a", "b"}, (String[]) plus.get(KeywordMetadata.ARGS));
+        Assert.assertArrayEquals(new String[0], (String[]) plus.get(KeywordMetadata.TYPES));
+        Assert.assertEquals("", information.get(KeywordMetadata.INTRO).get(KeywordMetadata.DOC));
+        Assert.assertEquals("", information.get(KeywordMetadata.INIT).get(KeywordMetadata.DOC));
+        Assert.assertArrayEquals(new String[0], (String[]) plus.get(KeywordMetadata.TAGS));
+        Assert.assertEquals("plusDoc", plus.get(KeywordMetadata.DOC));
+        Assert.assertArrayEquals(Stream.of("-", "minus").sorted().toArray(),
+                Stream.of((String[]) information.get("minus").get(KeywordMetadata.TAGS)).sorted().toArray());
+        Assert.assertSame(information, serverMethods.get_library_information());
+    }
+
     @Test public void arraysToLists() throws Exception {
         Mockito.when(servlet.getLibrary()).thenReturn(library);
         Assert.assertNull(serverMethods.arraysToLists(null));
@@ -0,0 +1,93 @@
+package org.robotframework.remoteserver.xmlrpc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link MulticallHandler}
+ */
+public class MulticallHandlerTest {
+
+    private ReflectiveHandlerMapping handlerMapping;
+
+    @Before public void setUp() throws Exception {
+        handlerMapping = new ReflectiveHandlerMapping();
+        handlerMapping.addHandler("calculator", Calculator.class);
+        handlerMapping.removePrefixes();
+    }
+
+    @Test public void execute() throws Exception {
+        final MulticallHandler handler = new MulticallHandler(handlerMapping);
+        final Object[] results = (Object[]) handler.execute(request(call("add", 1, 2), call("fail"), call("missing"),
+                call(MulticallHandler.METHOD_NAME), "call"));
+        Assert.assertEquals(5, results.length);
+        Assert.assertArrayEquals(new Object[] {3}, (Object[]) results[0]);
+        for (int i = 1; i < results.length; i++) {
+            Assert.assertTrue(results[i] instanceof Map);
+            Assert.assertTrue(((Map<?, ?>) results[i]).containsKey("faultCode"));
+            Assert.assertTrue(((Map<?, ?>) results[i]).containsKey("faultString"));
+        }
+    }
+
+    @Test(timeout = 10000) public void executeConcurrent() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final AtomicInteger bound = new AtomicInteger();
+        try {
+            Calculator.latch = new CountDownLatch(2);
+            final MulticallHandler handler = new MulticallHandler(handlerMapping, () -> executor, task -> {
+                bound.incrementAndGet();
+                return task;
+            });
+            final Object[] results = (Object[]) handler.execute(request(call("await", 1), call("await", 2)));
+            Assert.assertArrayEquals(new Object[] {1}, (Object[]) results[0]);
+            Assert.assertArrayEquals(new Object[] {2}, (Object[]) results[1]);
+            Assert.assertEquals(2, bound.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static XmlRpcRequest request(Object... calls) {
+        final XmlRpcRequest request = mock(XmlRpcRequest.class);
+        Mockito.when(request.getParameterCount()).thenReturn(1);
+        Mockito.when(request.getParameter(0)).thenReturn(calls);
+        return request;
+    }
+
+    private static Map<String, Object> call(String methodName, Object... params) {
+        final Map<String, Object> call = new HashMap<>();
+        call.put("methodName", methodName);
+        call.put("params", params);
+        return call;
+    }
+
+    public static class Calculator {
+
+        private static volatile CountDownLatch latch;
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public int fail() {
+            throw new IllegalStateException("fail");
+        }
+
+        public int await(int value) throws InterruptedException {
+            latch.countDown();
+            return latch.await(5, TimeUnit.SECONDS) ? value : -1;
+        }
+    }
+}
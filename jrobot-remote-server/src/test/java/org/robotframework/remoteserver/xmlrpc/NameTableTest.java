@@ -0,0 +1,29 @@
+package org.robotframework.remoteserver.xmlrpc;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NameTable}
+ */
+public class NameTableTest {
+
+    @Test public void get() {
+        final String name = new String("keyword");
+        final NameTable table = new NameTable(name, null, "other", "keyword");
+        final byte[] bytes = "<value>keyword</value>".getBytes(StandardCharsets.US_ASCII);
+        Assert.assertSame(name, table.get(bytes, 7, 14));
+        Assert.assertNull(table.get(bytes, 7, 13));
+        Assert.assertSame(name, table.get(new String("keyword")));
+        final String missing = "missing";
+        Assert.assertSame(missing, table.get(missing));
+    }
+
+    @Test public void getEmpty() {
+        final byte[] bytes = "keyword".getBytes(StandardCharsets.US_ASCII);
+        Assert.assertNull(NameTable.empty().get(bytes, 0, bytes.length));
+        Assert.assertNull(new NameTable((String[]) null).get(bytes, 0, bytes.length));
+        Assert.assertEquals("keyword", NameTable.empty().get("keyword"));
+    }
+}
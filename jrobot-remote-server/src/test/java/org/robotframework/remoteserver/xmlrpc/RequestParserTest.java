@@ -0,0 +1,146 @@
+package org.robotframework.remoteserver.xmlrpc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.XmlRpcRequestConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RequestParser}
+ */
+public class RequestParserTest {
+
+    private final XmlRpcRequestConfig config = mock(XmlRpcRequestConfig.class);
+
+    @Test public void parseRunKeyword() {
+        final String keyword = new String("My Keyword");
+        final XmlRpcRequest request = parse("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<methodCall>"
+                + "<methodName>run_keyword</methodName><params><param><value><string>My Keyword</string></value>"
+                + "</param><param><value><array><data><value>a</value><value><i4> 1 </i4></value>"
+                + "<value><int>-2</int></value><value><boolean>1</boolean></value><value><double>1.5</double>"
+                + "</value><value/></data></array></value></param><param><value><struct><member><name>key</name>"
+                + "<value><boolean>0</boolean></value></member></struct></value></param></params></methodCall>",
+                new NameTable(keyword));
+        Assert.assertNotNull(request);
+        Assert.assertSame(config, request.getConfig());
+        Assert.assertEquals("run_keyword", request.getMethodName());
+        Assert.assertEquals(3, request.getParameterCount());
+        Assert.assertSame(keyword, request.getParameter(0));
+        Assert.assertArrayEquals(new Object[] {"a", 1, -2, true, 1.5, ""}, (Object[]) request.getParameter(1));
+        final Map<String, Object> kwargs = new HashMap<>();
+        kwargs.put("key", false);
+        Assert.assertEquals(kwargs, request.getParameter(2));
+    }
+
+    @Test public void parseWithoutParams() {
+        XmlRpcRequest request = parse("<methodCall><methodName>get_keyword_names</methodName></methodCall>");
+        Assert.assertNotNull(request);
+        Assert.assertEquals("get_keyword_names", request.getMethodName());
+        Assert.assertEquals(0, request.getParameterCount());
+        request = parse("<methodCall>\n  <methodName>get_library_information</methodName>\n  <params/>\n"
+                + "</methodCall>\n");
+        Assert.assertNotNull(request);
+        Assert.assertEquals(0, request.getParameterCount());
+    }
+
+    @Test public void parseText() {
+        final XmlRpcRequest request = parse("<methodCall><methodName>run_keyword</methodName><params><param>"
+                + "<value>Unknown</value></param><param><value>&lt;a&gt; &amp; &quot;&apos; &#65;&#x42;\r\n"
+                + "\rž€</value></param></params></methodCall>", new NameTable("Known"));
+        Assert.assertNotNull(request);
+        Assert.assertEquals("Unknown", request.getParameter(0));
+        Assert.assertEquals("<a> & \"' AB\n\nž€", request.getParameter(1));
+    }
+
+    @Test public void parseTypedArguments() {
+        final Class<?>[] types = {int.class, Long.class, double.class, String.class, List.class, boolean.class,
+                int.class, int.class, short.class};
+        final XmlRpcRequest request = parse("<methodCall><methodName>run_keyword</methodName><params><param>"
+                + "<value>Keyword</value></param><param><value><array><data><value>42</value>"
+                + "<value><string>-9000000000</string></value><value>1.5</value><value><int>3</int></value>"
+                + "<value><array><data><value>a</value><value><array><data><value>b</value></data></array>"
+                + "</value></data></array></value><value>true</value><value> 5</value><value>99999999999</value>"
+                + "<value><i4>7</i4></value><value>extra</value></data></array></value></param></params>"
+                + "</methodCall>", new NameTable("Keyword"), Collections.singletonMap("Keyword", types));
+        Assert.assertNotNull(request);
+        final Object[] arguments = (Object[]) request.getParameter(1);
+        Assert.assertEquals(10, arguments.length);
+        Assert.assertEquals(42, arguments[0]);
+        Assert.assertEquals(-9000000000L, arguments[1]);
+        Assert.assertEquals(1.5, arguments[2]);
+        Assert.assertEquals("3", arguments[3]);
+        Assert.assertEquals(Arrays.asList("a", Collections.singletonList("b")), arguments[4]);
+        Assert.assertEquals(true, arguments[5]);
+        Assert.assertEquals(" 5", arguments[6]);
+        Assert.assertEquals("99999999999", arguments[7]);
+        Assert.assertEquals((short) 7, arguments[8]);
+        Assert.assertEquals("extra", arguments[9]);
+    }
+
+    @Test public void parseListArguments() {
+        final String body = "<methodCall><methodName>run_keyword</methodName><params><param>"
+                + "<value>Keyword</value></param><param><value><array><data><value><array><data><value>a</value>"
+                + "</data></array></value><value><array><data><value>b</value><value><array><data><value>c</value>"
+                + "</data></array></value></data></array></value><value><struct><member><name>d</name><value><array>"
+                + "<data><value>e</value></data></array></value></member></struct></value></data></array></value>"
+                + "</param></params></methodCall>";
+        Object[] arguments = (Object[]) parse(body, new NameTable("Keyword"),
+                Collections.singletonMap("Keyword", new Class<?>[] {List.class, Object.class})).getParameter(1);
+        Assert.assertEquals(Collections.singletonList("a"), arguments[0]);
+        Assert.assertEquals(Arrays.asList("b", Collections.singletonList("c")), arguments[1]);
+        Assert.assertEquals(Collections.singletonMap("d", Collections.singletonList("e")), arguments[2]);
+
+        arguments = (Object[]) parse(body, new NameTable("Keyword"),
+                Collections.singletonMap("Keyword", new Class<?>[] {Object.class, Object.class})).getParameter(1);
+        Assert.assertArrayEquals(new Object[] {"a"}, (Object[]) arguments[0]);
+        Assert.assertArrayEquals(new Object[] {"b", new Object[] {"c"}}, (Object[]) arguments[1]);
+        Assert.assertArrayEquals(new Object[] {"e"}, (Object[]) ((Map<?, ?>) arguments[2]).get("d"));
+    }
+
+    @Test public void parseUntypedArguments() {
+        final XmlRpcRequest request = parse("<methodCall><methodName>run_keyword</methodName><params><param>"
+                + "<value>Other</value></param><param><value><array><data><value>42</value></data></array></value>"
+                + "</param></params></methodCall>", NameTable.empty(),
+                Collections.singletonMap("Keyword", new Class<?>[] {int.class}));
+        Assert.assertNotNull(request);
+        Assert.assertArrayEquals(new Object[] {"42"}, (Object[]) request.getParameter(1));
+    }
+
+    @Test public void parseUnsupported() {
+        Assert.assertNull(parse("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?><methodCall>"
+                + "<methodName>run_keyword</methodName></methodCall>"));
+        Assert.assertNull(parse("<methodCall><!-- comment --><methodName>run_keyword</methodName></methodCall>"));
+        Assert.assertNull(parse("<methodCall xmlns=\"\"><methodName>run_keyword</methodName></methodCall>"));
+        Assert.assertNull(parse("<methodCall><methodName>run_keyword</methodName><params><param><value>"
+                + "<base64>AA==</base64></value></param></params></methodCall>"));
+        Assert.assertNull(parse("<methodCall><methodName>run_keyword</methodName><params><param><value>"
+                + "<![CDATA[text]]></value></param></params></methodCall>"));
+        Assert.assertNull(parse("<methodCall><methodName>run_keyword</methodName><params><param><value>"
+                + "<int>x</int></value></param></params></methodCall>"));
+        Assert.assertNull(parse("<methodCall><methodName>run_keyword</methodName><params><param><value>"
+                + "&#1;</value></param></params></methodCall>"));
+        Assert.assertNull(parse("<methodCall><methodName>run_keyword</methodName><params>"));
+    }
+
+    private XmlRpcRequest parse(String body) {
+        return parse(body, NameTable.empty());
+    }
+
+    private XmlRpcRequest parse(String body, NameTable keywords) {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return RequestParser.parse(config, bytes, bytes.length, keywords);
+    }
+
+    private XmlRpcRequest parse(String body, NameTable keywords, Map<String, Class<?>[]> argumentTypes) {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return RequestParser.parse(config, bytes, bytes.length, keywords, argumentTypes);
+    }
+}
@@ -1,16 +1,45 @@
 package org.robotframework.remoteserver.xmlrpc;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.TimeZone;
 import org.apache.ws.commons.util.NamespaceContextImpl;
 import org.apache.xmlrpc.common.XmlRpcController;
+import org.apache.xmlrpc.common.XmlRpcHttpRequestConfigImpl;
 import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.BigDecimalSerializer;
+import org.apache.xmlrpc.serializer.BigIntegerSerializer;
+import org.apache.xmlrpc.serializer.I8Serializer;
+import org.apache.xmlrpc.serializer.TypeSerializer;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
+import org.robotframework.remoteserver.xmlrpc.serializers.BinarySerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.DateTimeSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.EnumSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.NullSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.OptionalSerializer;
+import org.robotframework.remoteserver.xmlrpc.serializers.SerializerSource;
+import org.robotframework.remoteserver.xmlrpc.serializers.StructSerializer;
+import org.xml.sax.ContentHandler;
 
 import static org.mockito.Mockito.mock;
 
@@ -99,12 +128,200 @@ public class TypeFactoryTest {
                 typeFactory.getSerializer(pConfig, new Object()));
     }
 
+    @Test public void getSerializerCached() throws Exception {
+        final XmlRpcStreamConfig otherConfig = mock(XmlRpcStreamConfig.class);
+        Mockito.when(otherConfig.isEnabledForExtensions()).thenReturn(true);
+        Assert.assertSame(typeFactory.getSerializer(pConfig, Collections.singletonMap("a", 1)),
+                typeFactory.getSerializer(pConfig, new HashMap<>()));
+        Assert.assertSame(typeFactory.getSerializer(pConfig, new ArrayList<>()),
+                typeFactory.getSerializer(pConfig, new LinkedList<>()));
+        Assert.assertSame(typeFactory.getSerializer(pConfig, new int[0]),
+                typeFactory.getSerializer(pConfig, new long[0]));
+        Assert.assertNotSame(typeFactory.getSerializer(pConfig, new HashMap<>()),
+                typeFactory.getSerializer(otherConfig, new HashMap<>()));
+        Assert.assertSame(typeFactory.getSerializer(otherConfig, new HashMap<>()),
+                typeFactory.getSerializer(otherConfig, new HashMap<>()));
+        Assert.assertNotSame(typeFactory.getSerializer(pConfig, new HashMap<>()),
+                typeFactory.getSerializer(pConfig, new ArrayList<>()));
+        Assert.assertSame(typeFactory.getSerializer(new XmlRpcHttpRequestConfigImpl(), new ArrayList<>()),
+                typeFactory.getSerializer(new XmlRpcHttpRequestConfigImpl(), new ArrayList<>()));
+        final XmlRpcHttpRequestConfigImpl zoneConfig = new XmlRpcHttpRequestConfigImpl();
+        zoneConfig.setTimeZone(TimeZone.getTimeZone("GMT+05:00"));
+        Assert.assertSame(typeFactory.getSerializer(new XmlRpcHttpRequestConfigImpl(), new ArrayList<>()),
+                typeFactory.getSerializer(zoneConfig, new ArrayList<>()));
+
+        final TypeSerializer pojoSerializer = typeFactory.getSerializer(pConfig, new TestObject());
+        typeFactory.addSerializer(serializer);
+        Assert.assertNotSame(pojoSerializer, typeFactory.getSerializer(pConfig, new TestObject()));
+        Assert.assertSame(pojoSerializer, typeFactory.getSerializer(pConfig, new Object()));
+    }
+
+    @Test public void addSerializer() throws Exception {
+        final ContentHandler handler = mock(ContentHandler.class);
+        final ObjectWriter writer = typeFactory.getObjectWriter();
+        typeFactory.addSerializer(new StdSerializer<TestObject>(TestObject.class) {
+
+            @Override public void serialize(TestObject value, JsonGenerator jgen, SerializerProvider provider)
+                    throws IOException {
+                jgen.writeString(value.toString());
+            }
+        });
+        Assert.assertNotSame(writer, typeFactory.getObjectWriter());
+        Assert.assertEquals("{\"object\":\"TestObject\"}", typeFactory.getObjectWriter()
+                .writeValueAsString(new TestWrapper()));
+        typeFactory.getSerializer(pConfig, new TestObject()).write(handler, new TestObject());
+        Mockito.verify(handler).characters(Mockito.eq("\"TestObject\"".toCharArray()), Mockito.eq(0),
+                Mockito.eq(12));
+    }
+
+    @Test public void getSerializerStruct() throws Exception {
+        final TypeSerializer structSerializer = typeFactory.getSerializer(pConfig, new TestWrapper());
+        Assert.assertTrue(structSerializer instanceof StructSerializer);
+        Assert.assertNotSame(typeFactory.getSerializer(pConfig, new Object()), structSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, TestEnum.CONSTANT) instanceof EnumSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, TestEnum.BODY) instanceof EnumSerializer);
+    }
+
+    @Test public void getSerializerJdk() throws Exception {
+        final XmlRpcStreamConfig extConfig = mock(XmlRpcStreamConfig.class);
+        Mockito.when(extConfig.isEnabledForExtensions()).thenReturn(true);
+        final TypeSerializer stringSerializer = typeFactory.getSerializer(pConfig, "");
+        Assert.assertSame(stringSerializer, typeFactory.getSerializer(pConfig, 1L));
+        Assert.assertSame(stringSerializer, typeFactory.getSerializer(pConfig, BigInteger.ONE));
+        Assert.assertSame(stringSerializer, typeFactory.getSerializer(pConfig, BigDecimal.ONE));
+        Assert.assertSame(stringSerializer, typeFactory.getSerializer(pConfig, 'c'));
+        Assert.assertSame(stringSerializer, typeFactory.getSerializer(pConfig, LocalDate.now()));
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, null) instanceof NullSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(extConfig, 1L) instanceof I8Serializer);
+        Assert.assertTrue(typeFactory.getSerializer(extConfig, BigInteger.ONE) instanceof BigIntegerSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(extConfig, BigDecimal.ONE) instanceof BigDecimalSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(extConfig, null) instanceof
+                org.apache.xmlrpc.serializer.NullSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, new Date()) instanceof DateTimeSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, Instant.now()) instanceof DateTimeSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, Optional.empty()) instanceof OptionalSerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, new byte[0]) instanceof BinarySerializer);
+        Assert.assertTrue(typeFactory.getSerializer(pConfig, Paths.get("file")) instanceof BinarySerializer);
+
+        typeFactory.addSerializer(new TestSerializer<>(Long.class));
+        Assert.assertNotSame(stringSerializer, typeFactory.getSerializer(pConfig, 1L));
+    }
+
+    @Test public void hasCustomSerializer() throws Exception {
+        Assert.assertFalse(typeFactory.hasCustomSerializer(Long.class));
+        typeFactory.addSerializer(new TestSerializer<>(Number.class));
+        Assert.assertTrue(typeFactory.hasCustomSerializer(Long.class));
+        Assert.assertFalse(typeFactory.hasCustomSerializer(Integer.class));
+        Assert.assertFalse(typeFactory.hasCustomSerializer(String.class));
+    }
+
+    @Test public void getSerializerHierarchy() throws Exception {
+        final TypeSerializer pojoSerializer = typeFactory.getSerializer(pConfig, new Object());
+        typeFactory.addSerializer(new TestSerializer<>(Comparable.class));
+        final TypeSerializer comparableSerializer = typeFactory.getSerializer(pConfig, new TestValue());
+        Assert.assertNotSame(pojoSerializer, comparableSerializer);
+        Assert.assertSame(comparableSerializer, typeFactory.getSerializer(pConfig, new TestSubValue()));
+
+        typeFactory.addSerializer(new TestSerializer<>(TestValue.class));
+        final TypeSerializer valueSerializer = typeFactory.getSerializer(pConfig, new TestSubValue());
+        Assert.assertNotSame(comparableSerializer, valueSerializer);
+        Assert.assertSame(valueSerializer, typeFactory.getSerializer(pConfig, new TestValue()));
+        Assert.assertNotSame(valueSerializer, typeFactory.getSerializer(pConfig, (Comparable<Object>) o -> 0));
+        Assert.assertSame(pojoSerializer, typeFactory.getSerializer(pConfig, new Object()));
+        Assert.assertNotSame(valueSerializer, typeFactory.getSerializer(pConfig, ""));
+    }
+
+    @Test public void removeSerializer() throws Exception {
+        final TypeSerializer pojoSerializer = typeFactory.getSerializer(pConfig, new TestObject());
+        typeFactory.addSerializer(serializer);
+        Assert.assertNotSame(pojoSerializer, typeFactory.getSerializer(pConfig, new TestObject()));
+        Assert.assertTrue(typeFactory.removeSerializer(serializer));
+        Assert.assertFalse(typeFactory.removeSerializer(serializer));
+        Assert.assertSame(pojoSerializer, typeFactory.getSerializer(pConfig, new TestObject()));
+    }
+
+    @Test public void loadSerializers() throws Exception {
+        final ContentHandler handler = mock(ContentHandler.class);
+        typeFactory.loadSerializers(getClass().getClassLoader());
+        Assert.assertSame(typeFactory.getSerializer(pConfig, new Object()),
+                typeFactory.getSerializer(pConfig, new TestSubValue()));
+        // Services are registered only in directory, that is not on the test class path
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {getClass().getResource("/serializers/")},
+                getClass().getClassLoader())) {
+            typeFactory.loadSerializers(classLoader);
+        }
+        typeFactory.getSerializer(pConfig, new TestSubValue()).write(handler, new TestSubValue());
+        Mockito.verify(handler).characters(Mockito.eq("\"TestValue\"".toCharArray()), Mockito.eq(0),
+                Mockito.eq(11));
+    }
+
+    @Test public void removeSerializers() throws Exception {
+        final TypeSerializer pojoSerializer = typeFactory.getSerializer(pConfig, new TestSubValue());
+        final SerializerSource source = new TestSerializerSource();
+        final SerializerSource other = new TestSerializerSource();
+        typeFactory.addSerializers(source);
+        typeFactory.addSerializers(other);
+        typeFactory.removeSerializers(new TestSerializerSource());
+        typeFactory.removeSerializers(source);
+        Assert.assertNotSame(pojoSerializer, typeFactory.getSerializer(pConfig, new TestSubValue()));
+        typeFactory.removeSerializers(other);
+        Assert.assertSame(pojoSerializer, typeFactory.getSerializer(pConfig, new TestSubValue()));
+    }
+
     @Test public void getParser() throws Exception {
         Assert.assertNotNull(typeFactory.getParser(pConfig, pContext, "", "base64"));
         Assert.assertNotNull(typeFactory.getParser(pConfig, pContext, "", "double"));
         Assert.assertNull(typeFactory.getParser(pConfig, pContext, "", null));
     }
 
+    /**
+     * Source of serializers registered in {@code serializers/META-INF/services}, that creates new serializers
+     * each time
+     */
+    public static class TestSerializerSource implements SerializerSource {
+
+        @Override public Collection<StdSerializer<?>> getSerializers() {
+            return Collections.singletonList(new TestSerializer<>(TestValue.class));
+        }
+    }
+
+    private static class TestSerializer<T> extends StdSerializer<T> {
+
+        private TestSerializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override public void serialize(T value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+            jgen.writeString(handledType().getSimpleName());
+        }
+    }
+
+    private static class TestValue implements Comparable<TestValue> {
+
+        @Override public int compareTo(TestValue o) {
+            return 0;
+        }
+    }
+
+    private static class TestSubValue extends TestValue {
+
+    }
+
+    private enum TestEnum {
+        CONSTANT, BODY {
+            @Override public String toString() {
+                return "body";
+            }
+        }
+    }
+
+    public class TestWrapper {
+
+        public TestObject getObject() {
+            return new TestObject();
+        }
+    }
+
     private class TestObject {
 
         @Override public String toString() {
@@ -0,0 +1,108 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Tests for {@link BinarySerializer}
+ */
+public class BinarySerializerTest {
+
+    private static final byte[] DATA = new byte[20000];
+
+    static {
+        for (int i = 0; i < DATA.length; i++) {
+            DATA[i] = (byte) i;
+        }
+    }
+
+    private BinarySerializer serializer;
+    private StringBuilder output;
+    private ContentHandler handler;
+
+    @Before public void setUp() throws Exception {
+        output = new StringBuilder();
+        handler = new DefaultHandler() {
+
+            @Override public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                output.append('<').append(qName).append('>');
+            }
+
+            @Override public void endElement(String uri, String localName, String qName) {
+                output.append("</").append(qName).append('>');
+            }
+
+            @Override public void characters(char[] ch, int start, int length) {
+                output.append(ch, start, length);
+            }
+        };
+        serializer = new BinarySerializer();
+    }
+
+    @Test public void isSupported() throws Exception {
+        Assert.assertTrue(BinarySerializer.isSupported(byte[].class));
+        Assert.assertTrue(BinarySerializer.isSupported(ByteBuffer.allocateDirect(1).getClass()));
+        Assert.assertTrue(BinarySerializer.isSupported(ByteArrayInputStream.class));
+        Assert.assertTrue(BinarySerializer.isSupported(Paths.get("file").getClass()));
+        Assert.assertFalse(BinarySerializer.isSupported(int[].class));
+    }
+
+    @Test public void write() throws Exception {
+        final String expected = "<value><base64>" + Base64.getEncoder().encodeToString(DATA) + "</base64></value>";
+        Assert.assertEquals(expected, write(DATA));
+        Assert.assertEquals(expected, write(ByteBuffer.wrap(DATA)));
+        final ByteBuffer direct = ByteBuffer.allocateDirect(DATA.length).put(DATA);
+        direct.flip();
+        Assert.assertEquals(expected, write(direct));
+        Assert.assertEquals(DATA.length, direct.remaining());
+        final Path path = Files.write(Files.createTempFile("binary", ".bin"), DATA);
+        try {
+            Assert.assertEquals(expected, write(path));
+        } finally {
+            Files.delete(path);
+        }
+        Assert.assertEquals("<value><base64></base64></value>", write(new byte[0]));
+    }
+
+    @Test public void writeStream() throws Exception {
+        final InputStream stream = Mockito.spy(new ByteArrayInputStream(DATA));
+        Assert.assertEquals("<value><base64>" + Base64.getEncoder().encodeToString(DATA) + "</base64></value>",
+                write(stream));
+        Mockito.verify(stream).close();
+    }
+
+    @Test public void writeMissingFile() throws Exception {
+        final Path directory = Files.createTempDirectory("binary");
+        try {
+            for (Path path : new Path[] {directory, directory.resolve("missing.bin")}) {
+                try {
+                    write(path);
+                    Assert.fail("Exception expected");
+                } catch (SAXException ignored) {
+                }
+                Assert.assertEquals("", output.toString());
+            }
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    private String write(Object value) throws Exception {
+        output.setLength(0);
+        serializer.write(handler, value);
+        return output.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Tests for {@link DateTimeSerializer}
+ */
+public class DateTimeSerializerTest {
+
+    private StringBuilder output;
+    private ContentHandler handler;
+    private DateTimeSerializer serializer;
+
+    @Before public void setUp() throws Exception {
+        output = new StringBuilder();
+        handler = new DefaultHandler() {
+
+            @Override public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                output.append('<').append(qName).append('>');
+            }
+
+            @Override public void endElement(String uri, String localName, String qName) {
+                output.append("</").append(qName).append('>');
+            }
+
+            @Override public void characters(char[] ch, int start, int length) {
+                output.append(ch, start, length);
+            }
+        };
+        serializer = new DateTimeSerializer();
+    }
+
+    @Test public void isSupported() throws Exception {
+        Assert.assertTrue(DateTimeSerializer.isSupported(Date.class));
+        Assert.assertTrue(DateTimeSerializer.isSupported(java.sql.Timestamp.class));
+        Assert.assertTrue(DateTimeSerializer.isSupported(Instant.class));
+        Assert.assertFalse(DateTimeSerializer.isSupported(Long.class));
+    }
+
+    @Test public void write() throws Exception {
+        final Instant instant = Instant.parse("2019-01-02T03:04:05.678Z");
+        Assert.assertEquals("<value>2019-01-02T03:04:05.678Z</value>", write(Date.from(instant)));
+        Assert.assertEquals("<value>2019-01-02T03:04:05.678Z</value>", write(instant));
+        Assert.assertEquals("<value>2019-01-02T03:04:05Z</value>", write(Instant.parse("2019-01-02T03:04:05Z")));
+        Assert.assertEquals("<value>2019-01-02T05:04:05.000000001+02:00</value>",
+                write(OffsetDateTime.of(2019, 1, 2, 5, 4, 5, 1, ZoneOffset.ofHours(2))));
+        Assert.assertEquals("<value>2019-01-02T04:04:05.678+01:00[Europe/Prague]</value>",
+                write(ZonedDateTime.ofInstant(instant, ZoneId.of("Europe/Prague"))));
+        Assert.assertEquals("<value>2019-01-02T03:04:05</value>", write(LocalDateTime.of(2019, 1, 2, 3, 4, 5)));
+        final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT-03:00"));
+        calendar.setTime(Date.from(instant));
+        Assert.assertEquals("<value>2019-01-02T00:04:05.678-03:00</value>", write(calendar));
+    }
+
+    private String write(Object value) throws Exception {
+        output.setLength(0);
+        serializer.write(handler, value);
+        return output.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.xml.sax.ContentHandler;
+
+/**
+ * Tests for {@link EnumSerializer}
+ */
+public class EnumSerializerTest {
+
+    private ContentHandler handler;
+    private EnumSerializer serializer;
+
+    @Before public void setUp() throws Exception {
+        handler = Mockito.mock(ContentHandler.class);
+        serializer = new EnumSerializer();
+    }
+
+    @Test public void write() throws Exception {
+        serializer.write(handler, TestEnum.BODY);
+        Mockito.verify(handler).characters(Mockito.eq("BODY".toCharArray()), Mockito.eq(0), Mockito.eq(4));
+    }
+
+    private enum TestEnum {
+        CONSTANT, BODY {
+            @Override public String toString() {
+                return "body";
+            }
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package org.robotframework.remoteserver.xmlrpc.serializers;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.apache.ws.commons.serialize.XMLWriter;
+import org.apache.ws.commons.serialize.XMLWriterImpl;
+import org.apache.xmlrpc.common.XmlRpcHttpRequestConfigImpl;
 import org.apache.xmlrpc.common.XmlRpcStreamConfig;
 import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -38,4 +46,67 @@ public class IterableSerializerTest {
         Mockito.verify(typeSerializer).write(Mockito.eq(handler), Mockito.eq("ENTRY"));
     }
 
+    @Test public void writeParallel() throws Exception {
+        final List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            elements.add(i % 3 == 0 ? i : i % 3 == 1 ? "a&b" + i : Collections.singletonMap("k", (long) i));
+        }
+        final XmlRpcHttpRequestConfigImpl config = new XmlRpcHttpRequestConfigImpl();
+        config.setEnabledForExtensions(true);
+        final TypeFactory factory = new TypeFactory(null);
+        final String expected = write(new IterableSerializer(factory, config), elements);
+        final IterableSerializer parallel = new IterableSerializer(factory, config, () -> 100);
+        Assert.assertEquals(expected, write(parallel, elements));
+        Assert.assertEquals(expected, write(parallel, elements.toArray()));
+        Assert.assertEquals(expected, write(parallel, new LinkedHashSet<>(elements)));
+        Assert.assertTrue(expected.contains("<value>a&amp;b1</value>"));
+        Assert.assertTrue(expected.contains("<ex:i8>2</ex:i8>"));
+    }
+
+    @Test public void writeParallelCycle() throws Exception {
+        final XmlRpcHttpRequestConfigImpl config = new XmlRpcHttpRequestConfigImpl();
+        final TypeFactory factory = new TypeFactory(null);
+        final NodeObject node = new NodeObject();
+        for (int i = 0; i < 2000; i++) {
+            node.children.add(i);
+        }
+        node.children.add(node);
+        final String expected = write(factory.getSerializer(config, node), node);
+        factory.setParallelThreshold(100);
+        Assert.assertEquals(expected, write(factory.getSerializer(config, node), node));
+        Assert.assertEquals(expected.indexOf("<value>node</value>"), expected.lastIndexOf("<value>node</value>"));
+        final NodeObject small = new NodeObject();
+        small.children.addAll(Collections.nCopies(200, 1));
+        small.children.add(small);
+        final List<Object> nodes = Collections.nCopies(500, small);
+        factory.setParallelThreshold(0);
+        final String sequential = write(factory.getSerializer(config, nodes), nodes);
+        factory.setParallelThreshold(100);
+        Assert.assertEquals(sequential, write(factory.getSerializer(config, nodes), nodes));
+    }
+
+    private static class NodeObject {
+
+        private final List<Object> children = new ArrayList<>();
+
+        public List<Object> getChildren() {
+            return children;
+        }
+
+        @Override public String toString() {
+            return "node";
+        }
+    }
+
+    private static String write(TypeSerializer serializer, Object elements) throws Exception {
+        final StringWriter out = new StringWriter();
+        final XMLWriter writer = new XMLWriterImpl();
+        writer.setEncoding("UTF-8");
+        writer.setDeclarating(false);
+        writer.setWriter(out);
+        writer.startDocument();
+        serializer.write(writer, elements);
+        writer.endDocument();
+        return out.toString();
+    }
 }
@@ -0,0 +1,42 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robotframework.remoteserver.xmlrpc.TypeFactory;
+import org.xml.sax.ContentHandler;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link OptionalSerializer}
+ */
+public class OptionalSerializerTest {
+
+    private OptionalSerializer serializer;
+    private ContentHandler handler;
+    private TypeSerializer typeSerializer;
+
+    @Before public void setUp() throws Exception {
+        handler = Mockito.mock(ContentHandler.class);
+        final TypeFactory typeFactory = Mockito.mock(TypeFactory.class);
+        typeSerializer = Mockito.mock(TypeSerializer.class);
+        Mockito.when(typeFactory.getSerializer(Mockito.any(XmlRpcStreamConfig.class), Mockito.any()))
+                .thenReturn(typeSerializer);
+
+        serializer = new OptionalSerializer(typeFactory, mock(XmlRpcStreamConfig.class));
+    }
+
+    @Test public void write() throws Exception {
+        serializer.write(handler, Optional.of("VALUE"));
+        serializer.write(handler, OptionalInt.of(5));
+        serializer.write(handler, Optional.empty());
+        Mockito.verify(typeSerializer).write(Mockito.eq(handler), Mockito.eq("VALUE"));
+        Mockito.verify(typeSerializer).write(Mockito.eq(handler), Mockito.eq(5));
+        Mockito.verify(typeSerializer).write(Mockito.eq(handler), Mockito.isNull());
+    }
+}
@@ -2,11 +2,14 @@ package org.robotframework.remoteserver.xmlrpc.serializers;
 
 import org.apache.xmlrpc.common.XmlRpcStreamConfig;
 import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.robotframework.remoteserver.xmlrpc.TypeFactory;
+import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Tests for {@link PrimitiveArraySerializer}
@@ -15,41 +18,65 @@ public class PrimitiveArraySerializerTest {
 
     private PrimitiveArraySerializer serializer;
     private TypeFactory typeFactory;
-    private TypeSerializer typeSerializer;
     private XmlRpcStreamConfig config;
+    private StringBuilder output;
     private ContentHandler contentHandler;
 
     @Before public void setUp() throws Exception {
-        contentHandler = Mockito.mock(ContentHandler.class);
+        output = new StringBuilder();
+        contentHandler = new DefaultHandler() {
+
+            @Override public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                output.append('<').append(qName).append('>');
+            }
+
+            @Override public void endElement(String uri, String localName, String qName) {
+                output.append("</").append(qName).append('>');
+            }
+
+            @Override public void characters(char[] ch, int start, int length) {
+                output.append(ch, start, length);
+            }
+        };
         typeFactory = Mockito.mock(TypeFactory.class);
-        typeSerializer = Mockito.mock(TypeSerializer.class);
-        Mockito.when(typeFactory.getSerializer(Mockito.any(XmlRpcStreamConfig.class), Mockito.anyObject()))
-                .thenReturn(typeSerializer);
         config = Mockito.mock(XmlRpcStreamConfig.class);
         serializer = new PrimitiveArraySerializer(typeFactory, config);
     }
 
     @Test public void writeData() throws Exception {
-        serializer.writeData(contentHandler, new byte[] {1});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Byte((byte) 1)));
-
-        serializer.writeData(contentHandler, new short[] {10});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Short((short) 10)));
-
-        serializer.writeData(contentHandler, new int[] {11});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Integer(11)));
-
-        serializer.writeData(contentHandler, new long[] {12});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Long(12l)));
-
-        serializer.writeData(contentHandler, new float[] {10.5f});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Float(10.5f)));
+        Assert.assertEquals("<value><i4>1</i4></value><value><i4>-128</i4></value>",
+                write(new byte[] {1, Byte.MIN_VALUE}));
+        Assert.assertEquals("<value><i4>10</i4></value>", write(new short[] {10}));
+        Assert.assertEquals("<value><i4>11</i4></value><value><i4>-2147483648</i4></value>",
+                write(new int[] {11, Integer.MIN_VALUE}));
+        Assert.assertEquals("<value>12</value><value>-9223372036854775808</value>",
+                write(new long[] {12L, Long.MIN_VALUE}));
+        Assert.assertEquals("<value><double>10.5</double></value>", write(new float[] {10.5f}));
+        Assert.assertEquals("<value><double>10.25</double></value><value><double>-1.0E-300</double></value>",
+                write(new double[] {10.25, -1e-300}));
+        Assert.assertEquals("<value><boolean>0</boolean></value><value><boolean>1</boolean></value>",
+                write(new boolean[] {false, true}));
+        Mockito.verify(typeFactory, Mockito.never()).getSerializer(Mockito.any(), Mockito.any());
+    }
 
-        serializer.writeData(contentHandler, new double[] {10.25});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Double(10.25)));
+    @Test public void writeDataCustomLong() throws Exception {
+        final TypeSerializer longSerializer = Mockito.mock(TypeSerializer.class);
+        Mockito.when(typeFactory.hasCustomSerializer(Long.class)).thenReturn(true);
+        Mockito.when(typeFactory.getSerializer(Mockito.eq(config), Mockito.any(Long.class))).thenReturn(longSerializer);
+        write(new long[] {12L, 13L});
+        Mockito.verify(longSerializer).write(contentHandler, 12L);
+        Mockito.verify(longSerializer).write(contentHandler, 13L);
+        Assert.assertEquals("<value><i4>1</i4></value>", write(new int[] {1}));
+    }
 
-        serializer.writeData(contentHandler, new boolean[] {false});
-        Mockito.verify(typeSerializer).write(Mockito.eq(contentHandler), Mockito.eq(new Boolean(false)));
+    @Test public void writeDataExtensions() throws Exception {
+        Mockito.when(config.isEnabledForExtensions()).thenReturn(true);
+        Assert.assertEquals("<value><ex:i8>12</ex:i8></value>", write(new long[] {12L}));
     }
 
+    private String write(Object array) throws Exception {
+        output.setLength(0);
+        serializer.writeData(contentHandler, array);
+        return output.toString();
+    }
 }
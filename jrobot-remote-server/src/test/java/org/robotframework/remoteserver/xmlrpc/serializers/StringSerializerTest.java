@@ -1,11 +1,15 @@
 package org.robotframework.remoteserver.xmlrpc.serializers;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Tests for {@link StringSerializer}
@@ -51,4 +55,36 @@ public class StringSerializerTest {
                         Mockito.eq(TypeSerializerImpl.VALUE_TAG));
     }
 
+    @Test public void write3() throws Exception {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            builder.append("line ").append(i).append('\n');
+        }
+        final String message = builder.toString();
+        final RecordingHandler recordingHandler = new RecordingHandler();
+        serializer.write(recordingHandler, message);
+        Assert.assertEquals(message, recordingHandler.text.toString());
+    }
+
+    @Test public void write4() throws Exception {
+        final StringBuilder builder = new StringBuilder("\u0001");
+        while (builder.length() < 5000) {
+            builder.append("a\u00e9\u20ac\ud83d\ude00");
+        }
+        builder.append('\ud83d');
+        final String message = builder.toString();
+        final RecordingHandler recordingHandler = new RecordingHandler();
+        serializer.write(recordingHandler, message);
+        Assert.assertEquals(Base64.getEncoder().encodeToString(message.getBytes(StandardCharsets.UTF_8)),
+                recordingHandler.text.toString());
+    }
+
+    private static final class RecordingHandler extends DefaultHandler {
+
+        private final StringBuilder text = new StringBuilder();
+
+        @Override public void characters(char[] ch, int start, int length) {
+            text.append(ch, start, length);
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package org.robotframework.remoteserver.xmlrpc.serializers;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.File;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.MapSerializer;
+import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.robotframework.remoteserver.xmlrpc.TypeFactory;
+import org.xml.sax.ContentHandler;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link StructSerializer}
+ */
+public class StructSerializerTest {
+
+    private StructSerializer serializer;
+    private ContentHandler handler;
+    private TypeSerializer typeSerializer;
+
+    @Before public void setUp() throws Exception {
+        handler = Mockito.mock(ContentHandler.class);
+        final TypeFactory typeFactory = Mockito.mock(TypeFactory.class);
+        typeSerializer = Mockito.mock(TypeSerializer.class);
+        Mockito.when(typeFactory.getSerializer(Mockito.any(XmlRpcStreamConfig.class), Mockito.anyObject()))
+                .thenReturn(typeSerializer);
+
+        serializer = new StructSerializer(typeFactory, mock(XmlRpcStreamConfig.class));
+    }
+
+    @Test public void isSupported() throws Exception {
+        Assert.assertTrue(StructSerializer.isSupported(PojoObject.class));
+        Assert.assertFalse(StructSerializer.isSupported(Object.class));
+        Assert.assertFalse(StructSerializer.isSupported(File.class));
+        Assert.assertFalse(StructSerializer.isSupported(Long.class));
+        Assert.assertFalse(StructSerializer.isSupported(int[].class));
+    }
+
+    @Test public void write() throws Exception {
+        serializer.write(handler, new PojoObject("Object", 1));
+        final InOrder inOrder = Mockito.inOrder(handler, typeSerializer);
+        inOrder.verify(handler).startElement(Mockito.eq(""), Mockito.eq(MapSerializer.STRUCT_TAG),
+                Mockito.eq(MapSerializer.STRUCT_TAG), Mockito.any());
+        inOrder.verify(handler).characters(Mockito.eq("name".toCharArray()), Mockito.eq(0), Mockito.eq(4));
+        inOrder.verify(typeSerializer).write(Mockito.eq(handler), Mockito.eq("Object"));
+        inOrder.verify(handler).characters(Mockito.eq("key".toCharArray()), Mockito.eq(0), Mockito.eq(3));
+        inOrder.verify(typeSerializer).write(Mockito.eq(handler), Mockito.eq(1));
+        inOrder.verify(handler).endElement(Mockito.eq(""), Mockito.eq(MapSerializer.STRUCT_TAG),
+                Mockito.eq(MapSerializer.STRUCT_TAG));
+        Mockito.verify(typeSerializer, Mockito.never()).write(Mockito.any(ContentHandler.class),
+                Mockito.eq("secret"));
+    }
+
+    @Test public void writeFailure() throws Exception {
+        final PojoObject object = new PojoObject(null, 1);
+        serializer.write(handler, object);
+        Mockito.verify(handler).characters(Mockito.eq(object.toString().toCharArray()), Mockito.eq(0),
+                Mockito.anyInt());
+        Mockito.verify(typeSerializer, Mockito.never()).write(Mockito.any(ContentHandler.class), Mockito.any());
+    }
+
+    @Test public void writeCycle() throws Exception {
+        final NodeObject parent = new NodeObject(), child = new NodeObject();
+        parent.node = child;
+        child.node = parent;
+        Mockito.doAnswer(invocation -> {
+            serializer.write(handler, invocation.getArguments()[1]);
+            return null;
+        }).when(typeSerializer).write(Mockito.eq(handler), Mockito.any(NodeObject.class));
+        serializer.write(handler, parent);
+        Mockito.verify(handler, Mockito.times(2)).startElement(Mockito.eq(""), Mockito.eq(MapSerializer.STRUCT_TAG),
+                Mockito.eq(MapSerializer.STRUCT_TAG), Mockito.any());
+        Mockito.verify(handler).characters(Mockito.eq(parent.toString().toCharArray()), Mockito.eq(0),
+                Mockito.anyInt());
+        serializer.write(handler, parent);
+        Mockito.verify(handler, Mockito.times(4)).startElement(Mockito.eq(""), Mockito.eq(MapSerializer.STRUCT_TAG),
+                Mockito.eq(MapSerializer.STRUCT_TAG), Mockito.any());
+    }
+
+    private class NodeObject {
+
+        private NodeObject node;
+
+        public NodeObject getNode() {
+            return node;
+        }
+    }
+
+    private class PojoObject {
+
+        private final String name;
+        @JsonProperty("key") private final int id;
+
+        protected PojoObject(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public String getName() {
+            if (name == null) {
+                throw new IllegalStateException("No name");
+            }
+            return name;
+        }
+
+        @JsonIgnore public String getSecret() {
+            return "secret";
+        }
+    }
+}